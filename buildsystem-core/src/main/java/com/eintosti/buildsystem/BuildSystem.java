@@ -43,6 +43,7 @@ import com.eintosti.buildsystem.settings.NoClipManager;
 import com.eintosti.buildsystem.settings.Settings;
 import com.eintosti.buildsystem.settings.SettingsInventory;
 import com.eintosti.buildsystem.settings.SettingsManager;
+import com.eintosti.buildsystem.storage.StorageManager;
 import com.eintosti.buildsystem.settings.SpeedInventory;
 import com.eintosti.buildsystem.tabcomplete.BuildTabComplete;
 import com.eintosti.buildsystem.tabcomplete.ConfigTabComplete;
@@ -58,7 +59,6 @@ import com.eintosti.buildsystem.util.SkullCache;
 import com.eintosti.buildsystem.util.external.UpdateChecker;
 import com.eintosti.buildsystem.version.customblocks.CustomBlocks;
 import com.eintosti.buildsystem.version.gamerules.GameRules;
-import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.SpawnManager;
 import com.eintosti.buildsystem.world.WorldManager;
 import com.eintosti.buildsystem.world.data.StatusInventory;
@@ -96,7 +96,9 @@ public class BuildSystem extends JavaPlugin {
     private PlayerManager playerManager;
     private SettingsManager settingsManager;
     private SpawnManager spawnManager;
+    private StorageManager storageManager;
     private WorldManager worldManager;
+    private WorldSettingsListenerGate listenerGate;
 
     private ArchiveInventory archiveInventory;
     private BlocksInventory blocksInventory;
@@ -184,10 +186,14 @@ public class BuildSystem extends JavaPlugin {
         reloadConfigData(false);
         saveConfig();
 
+        worldManager.getWorldEvictionPolicy().stop();
+        worldManager.getImportableWorldIndex().stop();
         worldManager.save();
+        worldManager.shutdownFileExecutor();
         playerManager.save();
         spawnManager.save();
         inventoryUtil.save();
+        storageManager.close();
 
         unregisterExpansions();
 
@@ -207,6 +213,7 @@ public class BuildSystem extends JavaPlugin {
     }
 
     private void initClasses() {
+        this.storageManager = new StorageManager(this);
         this.armorStandManager = new ArmorStandManager();
         this.playerManager = new PlayerManager(this);
         this.inventoryUtil = new InventoryUtil(this);
@@ -280,11 +287,10 @@ public class BuildSystem extends JavaPlugin {
     private void registerListeners() {
         new AsyncPlayerChatListener(this);
         new AsyncPlayerPreLoginListener(this);
-        new BlockPhysicsListener(this);
         new BlockPlaceListener(this);
+        new BlockRedstoneListener(this);
         new BuildModePreventationListener(this);
         new BuildWorldResetUnloadListener(this);
-        new EntitySpawnListener(this);
         new FoodLevelChangeListener(this);
         new InventoryCloseListener(this);
         new InventoryCreativeListener(this);
@@ -300,7 +306,10 @@ public class BuildSystem extends JavaPlugin {
         new SettingsInteractListener(this);
         new SignChangeListener(this);
         new WeatherChangeListener(this);
+        new WorldBindingListener(this);
         new WorldManipulateListener(this);
+
+        this.listenerGate = new WorldSettingsListenerGate(this);
     }
 
     private void registerStats() {
@@ -390,7 +399,10 @@ public class BuildSystem extends JavaPlugin {
 
         if (init) {
             initVersionedClasses();
-            worldManager.getBuildWorlds().forEach(BuildWorld::manageUnload);
+            worldManager.getBuildWorlds().forEach(buildWorld -> {
+                buildWorld.invalidateIcon();
+                buildWorld.manageUnload();
+            });
             if (configValues.isScoreboard()) {
                 getSettingsManager().startScoreboard();
             } else {
@@ -423,10 +435,18 @@ public class BuildSystem extends JavaPlugin {
         return spawnManager;
     }
 
+    public StorageManager getStorageManager() {
+        return storageManager;
+    }
+
     public WorldManager getWorldManager() {
         return worldManager;
     }
 
+    public WorldSettingsListenerGate getListenerGate() {
+        return listenerGate;
+    }
+
     public ArchiveInventory getArchiveInventory() {
         return archiveInventory;
     }
@@ -72,6 +72,7 @@ public class Messages {
         setMessage(sb, "enter_world_permission", "&7Enter &bPermission");
         setMessage(sb, "enter_world_project", "&7Enter &bProject");
         setMessage(sb, "enter_player_name", "&7Enter &bPlayer Name");
+        setMessage(sb, "enter_world_search", "&7Search &bWorlds");
         setMessage(sb, "cancel_subtitle", "&7Type &ccancel &7to cancel");
         setMessage(sb, "input_cancelled", "%prefix% &cInput cancelled!");
         setMessage(sb, "update_available", Arrays.asList(
@@ -229,6 +230,8 @@ public class Messages {
         setMessage(sb, "worlds_world_creation_name_bank", "%prefix% &cThe world name cannot be blank.");
         setMessage(sb, "worlds_world_creation_started", "%prefix% &7The creation of &b%world% &8(&7Type: &f%type%&8) &7has started...");
         setMessage(sb, "worlds_template_creation_started", "%prefix% &7The creation of &b%world% &8(&7Template: &f%template%&8) &7has started...");
+        setMessage(sb, "worlds_template_creation_progress", "&7Copying template... &b%progress%%");
+        setMessage(sb, "worlds_template_creation_failed", "%prefix% &cThe template could not be copied.");
         setMessage(sb, "worlds_creation_finished", "%prefix% &7The world was &asuccessfully &7created.");
         setMessage(sb, "worlds_template_does_not_exist", "%prefix% &cThis template does not exist.");
         addSpacer(sb, "");
@@ -281,15 +284,25 @@ public class Messages {
         setMessage(sb, "worlds_import_invalid_character", "%prefix% &7Unable to import &c%world%&7.\n" +
                 "%prefix% &7&oName contains invalid character: &c%char%");
         setMessage(sb, "worlds_import_finished", "%prefix% &7The world was &asuccessfully &7imported.");
+        setMessage(sb, "worlds_import_failed", "%prefix% &cFailed to import &b%world%&c. Check the console for details.");
         addSpacer(sb, "");
-        setMessage(sb, "worlds_importall_usage", "%prefix% &7Usage: &b/worlds importall");
+        setMessage(sb, "worlds_importall_usage", "%prefix% &7Usage: &b/worlds importall [pause|resume|cancel]");
         setMessage(sb, "worlds_importall_no_worlds", "%prefix% &cNo worlds were found.");
         setMessage(sb, "worlds_importall_started", "%prefix% &7Beginning import of &b%amount% &7worlds...");
-        setMessage(sb, "worlds_importall_delay", "%prefix% &8➥ &7Delay between each world: &b%delay%s&7.");
+        setMessage(sb, "worlds_importall_running", "%prefix% &cAn import is already running.");
+        setMessage(sb, "worlds_importall_not_running", "%prefix% &cThere is no import running.");
+        setMessage(sb, "worlds_importall_paused", "%prefix% &7The import has been &epaused&7.");
+        setMessage(sb, "worlds_importall_resumed", "%prefix% &7The import has been &aresumed&7.");
+        setMessage(sb, "worlds_importall_progress", "%prefix% &8➥ &7Progress: &b%processed%&7/&b%total% &7worlds");
         setMessage(sb, "worlds_importall_invalid_character", "%prefix% &c✘ &7&o%world% &7contains invalid character &8(&c%char%&8)");
         setMessage(sb, "worlds_importall_world_already_imported", "%prefix% &c&l✗ &7World already imported: &b%world%");
+        setMessage(sb, "worlds_importall_world_not_found", "%prefix% &c&l✗ &7No world found: &b%world%");
         setMessage(sb, "worlds_importall_world_imported", "%prefix% &a✔ &7World imported: &b%world%");
+        setMessage(sb, "worlds_importall_world_failed", "%prefix% &c&l✗ &7Failed to import: &b%world%");
         setMessage(sb, "worlds_importall_finished", "%prefix% &7All worlds have been &asuccessfully &7imported.");
+        setMessage(sb, "worlds_importall_cancelled", "%prefix% &7The import has been &ccancelled&7.");
+        setMessage(sb, "worlds_importall_summary", "%prefix% &8➥ &a%imported% &7imported, &e%skipped% &7skipped, &c%failed% &7failed");
+        setMessage(sb, "worlds_importall_failed_worlds", "%prefix% &8➥ &7Failed worlds: &c%worlds%");
         addSpacer(sb, "");
         setMessage(sb, "worlds_info_usage", "%prefix% &7Usage: &b/worlds info [world]");
         setMessage(sb, "worlds_info_unknown_world", "%prefix% &cUnknown world.");
@@ -315,6 +328,14 @@ public class Messages {
                 " &8- &7MobAI: &b%mobai%",
                 " &8- &7Custom spawn: &b%custom_spawn%",
                 "&7&m-------------------------------------"));
+        setMessage(sb, "world_info_level_data", Arrays.asList(
+                "%prefix% &7&nStored on disk &8(&7not loaded&8)&7:",
+                " &8- &7Generator: &b%generator%",
+                " &8- &7Dimension: &b%dimension%",
+                " &8- &7Data version: &b%data_version%",
+                " &8- &7Spawn: &b%spawn%",
+                " &8- &7Last played: &b%last_played%",
+                "&7&m-------------------------------------"));
         addSpacer(sb, "");
         setMessage(sb, "worlds_item_receive", "%prefix% &7You received the &bNavigator&7.");
         addSpacer(sb, "");
@@ -330,6 +351,7 @@ public class Messages {
         setMessage(sb, "worlds_rename_unknown_world", "%prefix% &cUnknown world.");
         setMessage(sb, "worlds_rename_error", "%prefix% &cPlease try again.");
         setMessage(sb, "worlds_rename_same_name", "%prefix% &cThis is the world's current name.");
+        setMessage(sb, "worlds_rename_failed", "%prefix% &cThe world could not be renamed.");
         setMessage(sb, "worlds_rename_set", "%prefix% &b%oldName% &7was successfully renamed to &b%newName%&7.");
         setMessage(sb, "worlds_rename_players_world", "%prefix% &7&oThe world you are in is being renamed...");
         addSpacer(sb, "");
@@ -373,6 +395,7 @@ public class Messages {
         setMessage(sb, "worlds_unimport_unknown_world", "%prefix% &cUnknown world.");
         setMessage(sb, "worlds_unimport_players_world", "%prefix% &7&oThe world you were in was unimported.");
         setMessage(sb, "worlds_unimport_finished", "%prefix% &b%world% &7has been &aunimported&7.");
+        setMessage(sb, "worlds_unimport_error", "%prefix% &b%world% &ccould not be unloaded and has not been unimported.");
         addSpacer(sb, "");
         addSpacer(sb, "");
         addSpacer(sb, "# ---------");
@@ -389,6 +412,20 @@ public class Messages {
         addSpacer(sb, "# Multi-page inventory");
         setMessage(sb, "gui_previous_page", "&b« &7Previous Page");
         setMessage(sb, "gui_next_page", "&7Next Page &b»");
+        setMessage(sb, "navigator_search", "&bSearch Worlds");
+        setMessage(sb, "navigator_search_lore", Arrays.asList(
+                "&7Find worlds by their name,",
+                "&7project or creator.",
+                "",
+                "&8- &7&oClick&8: &7Search"
+        ));
+        setMessage(sb, "navigator_search_lore_active", Arrays.asList(
+                "&7Search&8: &b%query%",
+                "",
+                "&8- &7&oLeft click&8: &7Change search",
+                "&8- &7&oRight click&8: &7Clear search"
+        ));
+        setMessage(sb, "navigator_search_no_results", "&c&nNo worlds found");
         addSpacer(sb, "");
         addSpacer(sb, "# Old Navigator");
         setMessage(sb, "old_navigator_title", "&3» &8Navigator");
@@ -11,16 +11,13 @@ import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.world.WorldManager;
 import io.papermc.lib.PaperLib;
-import org.bukkit.Location;
-import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
+import java.util.logging.Level;
 
 /**
  * @author einTosti
@@ -59,23 +56,22 @@ public class TopCommand implements CommandExecutor {
     }
 
     private void sendToTop(Player player) {
-        World bukkitWorld = player.getWorld();
-        Location playerLocation = player.getLocation();
-        Location blockLocation = null;
+        worldManager.getSafeLocationFinder().findHighestAbove(player.getLocation()).whenComplete((location, throwable) -> {
+            if (throwable != null) {
+                plugin.getLogger().log(Level.WARNING, "Unable to find a location above " + player.getName(), throwable);
+            }
 
-        for (int y = bukkitWorld.getMaxHeight(); y > 0; y--) {
-            Block block = bukkitWorld.getBlockAt(playerLocation.getBlockX(), y, playerLocation.getBlockZ());
-            if (worldManager.isSafeLocation(block.getLocation()) && y > playerLocation.getY()) {
-                blockLocation = block.getLocation();
-                break;
+            if (!player.isOnline()) {
+                return;
             }
-        }
 
-        if (blockLocation != null && !Objects.equals(blockLocation.getBlock(), playerLocation.getBlock())) {
-            PaperLib.teleportAsync(player, blockLocation.add(0.5, 0, 0.5));
+            if (location == null) {
+                Messages.sendMessage(player, "top_failed");
+                return;
+            }
+
+            PaperLib.teleportAsync(player, location);
             Messages.sendMessage(player, "top_teleported");
-        } else {
-            Messages.sendMessage(player, "top_failed");
-        }
+        });
     }
-}
\ No newline at end of file
+}
@@ -11,12 +11,10 @@ import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.command.subcommand.SubCommand;
 import com.eintosti.buildsystem.tabcomplete.WorldsTabComplete;
-import com.eintosti.buildsystem.world.BuildWorld;
+import com.eintosti.buildsystem.world.WorldImportJob;
 import com.eintosti.buildsystem.world.WorldManager;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-
-import java.io.File;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author einTosti
@@ -38,33 +36,47 @@ public class ImportAllSubCommand extends SubCommand {
             return;
         }
 
+        WorldManager worldManager = plugin.getWorldManager();
+        if (args.length == 2) {
+            manageImport(player, worldManager.getImportJob(), args[1]);
+            return;
+        }
+
         if (args.length != 1) {
             Messages.sendMessage(player, "worlds_importall_usage");
             return;
         }
 
-        WorldManager worldManager = plugin.getWorldManager();
-        File worldContainer = Bukkit.getWorldContainer();
-        String[] directories = worldContainer.list((dir, name) -> {
-            File worldFolder = new File(dir, name);
-            if (!worldFolder.isDirectory()) {
-                return false;
-            }
-
-            File levelFile = new File(dir + File.separator + name + File.separator + "level.dat");
-            if (!levelFile.exists()) {
-                return false;
-            }
-
-            BuildWorld buildWorld = worldManager.getBuildWorld(name);
-            return buildWorld == null;
-        });
-
-        if (directories == null || directories.length == 0) {
+        String[] directories = worldManager.getImportableWorldIndex().getImportableWorlds().toArray(new String[0]);
+        if (directories.length == 0) {
             Messages.sendMessage(player, "worlds_importall_no_worlds");
             return;
         }
 
         worldManager.importWorlds(player, directories);
     }
-}
\ No newline at end of file
+
+    private void manageImport(Player player, @Nullable WorldImportJob importJob, String action) {
+        if (importJob == null) {
+            Messages.sendMessage(player, "worlds_importall_not_running");
+            return;
+        }
+
+        switch (action.toLowerCase()) {
+            case "pause":
+                importJob.setPaused(true);
+                Messages.sendMessage(player, "worlds_importall_paused");
+                break;
+            case "resume":
+                importJob.setPaused(false);
+                Messages.sendMessage(player, "worlds_importall_resumed");
+                break;
+            case "cancel":
+                importJob.cancel();
+                break;
+            default:
+                Messages.sendMessage(player, "worlds_importall_usage");
+                break;
+        }
+    }
+}
@@ -62,7 +62,7 @@ public class ImportSubCommand extends SubCommand {
 
         switch (args.length) {
             case 2:
-                worldManager.importWorld(player, args[1], Generator.VOID, null);
+                worldManager.importWorld(player, args[1], null, null);
                 break;
             case 4:
                 if (!args[2].equalsIgnoreCase("-g")) {
@@ -13,12 +13,16 @@ import com.eintosti.buildsystem.command.subcommand.SubCommand;
 import com.eintosti.buildsystem.tabcomplete.WorldsTabComplete;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
+import com.eintosti.buildsystem.world.data.LevelData;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.text.SimpleDateFormat;
 import java.util.AbstractMap;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * @author einTosti
@@ -60,6 +64,10 @@ public class InfoSubCommand extends SubCommand {
             return;
         }
         buildWorld = worldManager.getBuildWorld(args[1]);
+        if (buildWorld == null) {
+            Messages.sendMessage(player, "worlds_info_unknown_world");
+            return;
+        }
 
         //TODO: Print information about the custom generator?
         Messages.sendMessage(player, "world_info",
@@ -82,6 +90,34 @@ public class InfoSubCommand extends SubCommand {
                 new AbstractMap.SimpleEntry<>("%mobai%", buildWorld.isMobAI()),
                 new AbstractMap.SimpleEntry<>("%custom_spawn%", getCustomSpawn(buildWorld))
         );
+
+        if (!buildWorld.isLoaded()) {
+            sendLevelData(player, buildWorld);
+        }
+    }
+
+    /**
+     * Sends the information stored in the {@code level.dat} of an unloaded world, which is read asynchronously
+     * so that the world does not have to be loaded.
+     */
+    private void sendLevelData(Player player, BuildWorld buildWorld) {
+        File worldFolder = new File(Bukkit.getWorldContainer(), buildWorld.getName());
+        CompletableFuture.supplyAsync(() -> LevelData.read(worldFolder), plugin.getWorldManager().getFileExecutor())
+                .thenAccept(levelData -> Bukkit.getScheduler().runTask(plugin, () -> {
+                    if (levelData == null || !player.isOnline()) {
+                        return;
+                    }
+
+                    Messages.sendMessage(player, "world_info_level_data",
+                            new AbstractMap.SimpleEntry<>("%generator%", levelData.getGenerator()),
+                            new AbstractMap.SimpleEntry<>("%dimension%", levelData.getEnvironment().name()),
+                            new AbstractMap.SimpleEntry<>("%data_version%", levelData.getDataVersion() > 0 ? String.valueOf(levelData.getDataVersion()) : "-"),
+                            new AbstractMap.SimpleEntry<>("%spawn%", "XYZ: " + levelData.getSpawnX() + " / " + levelData.getSpawnY() + " / " + levelData.getSpawnZ()),
+                            new AbstractMap.SimpleEntry<>("%last_played%", levelData.getLastPlayed() > 0
+                                    ? new SimpleDateFormat(plugin.getConfigValues().getDateFormat()).format(levelData.getLastPlayed())
+                                    : "-")
+                    );
+                }));
     }
 
     private String getCustomSpawn(BuildWorld buildWorld) {
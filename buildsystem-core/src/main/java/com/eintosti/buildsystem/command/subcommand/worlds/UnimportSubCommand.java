@@ -51,7 +51,12 @@ public class UnimportSubCommand extends SubCommand {
             return;
         }
 
-        worldManager.unimportWorld(buildWorld, true);
-        Messages.sendMessage(player, "worlds_unimport_finished", new AbstractMap.SimpleEntry<>("%world%", buildWorld.getName()));
+        worldManager.unimportWorld(buildWorld, true, unloaded -> {
+            if (unloaded) {
+                Messages.sendMessage(player, "worlds_unimport_finished", new AbstractMap.SimpleEntry<>("%world%", buildWorld.getName()));
+            } else {
+                Messages.sendMessage(player, "worlds_unimport_error", new AbstractMap.SimpleEntry<>("%world%", buildWorld.getName()));
+            }
+        });
     }
 }
\ No newline at end of file
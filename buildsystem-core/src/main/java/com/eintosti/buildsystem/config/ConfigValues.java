@@ -9,6 +9,7 @@ package com.eintosti.buildsystem.config;
 
 import com.cryptomorin.xseries.XMaterial;
 import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.storage.StorageType;
 import org.bukkit.Difficulty;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
@@ -60,7 +61,18 @@ public class ConfigValues {
     private int noonTime;
     private int nightTime;
     private int worldBorderSize;
-    private int importDelay;
+    private double importMinTps;
+    private int autosaveInterval;
+    private int worldLoadTickBudget;
+    private int unloadTickBudget;
+    private int unloadSweepInterval;
+    private int maxUnloadsPerSweep;
+    private int maxLoadedWorlds;
+    private int heapThreshold;
+    private int playerSaveInterval;
+    private StorageType storageType;
+    private boolean templateCopyOnWrite;
+    private int playerUnloadDelay;
     private int maxPublicWorldAmount;
     private int maxPrivateWorldAmount;
 
@@ -95,6 +107,11 @@ public class ConfigValues {
         this.navigatorItem = XMaterial.valueOf(config.getString("settings.navigator.item", "CLOCK"));
         this.giveNavigatorOnJoin = config.getBoolean("settings.navigator.give-item-on-join", true);
 
+        this.playerSaveInterval = config.getInt("settings.player-data.save-interval", 60);
+        this.playerUnloadDelay = config.getInt("settings.player-data.unload-delay", 300);
+        this.storageType = StorageType.matchStorageType(config.getString("settings.storage.type", "YAML"));
+        this.templateCopyOnWrite = config.getBoolean("world.templates.copy-on-write", false);
+
         // World
         this.defaultPublicPermission = config.getString("world.default.permission.public", "-");
         this.defaultPrivatePermission = config.getString("world.default.permission.private", "-");
@@ -131,8 +148,16 @@ public class ConfigValues {
         this.unloadWorlds = config.getBoolean("world.unload.enabled", false);
         this.timeUntilUnload = config.getString("world.unload.time-until-unload", "01:00:00");
         this.blackListedWorldsToUnload = new HashSet<>(config.getStringList("world.unload.blacklisted-worlds"));
+        this.unloadTickBudget = config.getInt("world.unload.tick-budget", 10);
+        this.unloadSweepInterval = config.getInt("world.unload.sweep-interval", 30);
+        this.maxUnloadsPerSweep = config.getInt("world.unload.max-per-sweep", 5);
+        this.maxLoadedWorlds = config.getInt("world.unload.max-loaded-worlds", -1);
+        this.heapThreshold = config.getInt("world.unload.heap-threshold", 0);
 
-        this.importDelay = config.getInt("world.import-all.delay", 30);
+        // The server never runs faster than 20 TPS, so a higher minimum would stop the import from ever progressing
+        this.importMinTps = Math.min(19.5, Math.max(1, config.getDouble("world.import-all.min-tps", 18)));
+        this.autosaveInterval = config.getInt("world.autosave.interval", 60);
+        this.worldLoadTickBudget = config.getInt("world.startup-loading.tick-budget", 20);
 
         this.maxPublicWorldAmount = config.getInt("world.max-amount.public", -1);
         this.maxPrivateWorldAmount = config.getInt("world.max-amount.private", -1);
@@ -265,8 +290,52 @@ public class ConfigValues {
         return worldBorderSize;
     }
 
-    public int getImportDelay() {
-        return importDelay;
+    public double getImportMinTps() {
+        return importMinTps;
+    }
+
+    public int getAutosaveInterval() {
+        return autosaveInterval;
+    }
+
+    public int getWorldLoadTickBudget() {
+        return worldLoadTickBudget;
+    }
+
+    public int getUnloadTickBudget() {
+        return unloadTickBudget;
+    }
+
+    public int getUnloadSweepInterval() {
+        return unloadSweepInterval;
+    }
+
+    public int getMaxUnloadsPerSweep() {
+        return maxUnloadsPerSweep;
+    }
+
+    public int getMaxLoadedWorlds() {
+        return maxLoadedWorlds;
+    }
+
+    public int getHeapThreshold() {
+        return heapThreshold;
+    }
+
+    public int getPlayerSaveInterval() {
+        return playerSaveInterval;
+    }
+
+    public int getPlayerUnloadDelay() {
+        return playerUnloadDelay;
+    }
+
+    public StorageType getStorageType() {
+        return storageType;
+    }
+
+    public boolean isTemplateCopyOnWrite() {
+        return templateCopyOnWrite;
     }
 
     public int getMaxWorldAmount(boolean privateWorld) {
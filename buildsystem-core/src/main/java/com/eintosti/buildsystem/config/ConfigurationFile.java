@@ -8,24 +8,37 @@
 package com.eintosti.buildsystem.config;
 
 import com.eintosti.buildsystem.BuildSystem;
+import org.bukkit.Bukkit;
 import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author einTosti
  */
 public abstract class ConfigurationFile {
 
+    private final BuildSystem plugin;
     private final File file;
     private final FileConfiguration configuration;
 
+    private final AtomicLong snapshotVersion;
+    private long writtenVersion;
+
     public ConfigurationFile(BuildSystem plugin, String fileName) {
+        this.plugin = plugin;
         this.file = new File(plugin.getDataFolder(), fileName);
         this.configuration = YamlConfiguration.loadConfiguration(file);
+        this.snapshotVersion = new AtomicLong();
         loadFile();
     }
 
@@ -44,14 +57,60 @@ public abstract class ConfigurationFile {
     }
 
     public void saveFile() {
+        write(snapshotVersion.incrementAndGet(), configuration.saveToString());
+    }
+
+    /**
+     * Serializes the configuration on the calling thread and writes it to disk asynchronously.
+     * <p>
+     * Should multiple writes overlap, only the most recent snapshot is written.
+     */
+    public void saveFileAsync() {
+        long version = snapshotVersion.incrementAndGet();
+        String data = configuration.saveToString();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> write(version, data));
+    }
+
+    /**
+     * Writes the data to a temporary file first, which then replaces the actual file.
+     * This way, the file is never left half-written should the server crash while saving.
+     *
+     * @param version The version of the snapshot, used to discard outdated snapshots
+     * @param data    The serialized configuration
+     */
+    private synchronized void write(long version, String data) {
+        if (version <= writtenVersion) {
+            return;
+        }
+
         try {
-            configuration.save(file);
+            writeAtomically(file, data);
+            this.writtenVersion = version;
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
+    /**
+     * Writes the data to a temporary file which then atomically replaces the given file, if supported by the file system.
+     *
+     * @param file The file to write to
+     * @param data The data to write
+     * @throws IOException If the data could not be written
+     */
+    static void writeAtomically(File file, String data) throws IOException {
+        Path target = file.toPath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(file.getName() + ".tmp");
+        Files.write(temp, data.getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     public FileConfiguration getFile() {
         return configuration;
     }
-}
\ No newline at end of file
+}
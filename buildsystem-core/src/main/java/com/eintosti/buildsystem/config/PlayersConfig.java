@@ -8,21 +8,148 @@
 package com.eintosti.buildsystem.config;
 
 import com.eintosti.buildsystem.BuildSystem;
-import com.eintosti.buildsystem.player.BuildPlayer;
+import com.eintosti.buildsystem.storage.PlayerStorage;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 
 /**
+ * Stores the data of every player in its own file, so that a single player can be loaded or saved
+ * without having to read or write the data of all other players.
+ * <p>
+ * Saving a player only queues the data. The queue is written to disk when {@link #flush(boolean)} is called.
+ *
  * @author einTosti
  */
-public class PlayersConfig extends ConfigurationFile {
+public class PlayersConfig implements PlayerStorage {
+
+    private static final String LEGACY_FILE_NAME = "players.yml";
+
+    private final BuildSystem plugin;
+    private final File directory;
+    private final Map<UUID, Map<String, Object>> pendingWrites;
 
     public PlayersConfig(BuildSystem plugin) {
-        super(plugin, "players.yml");
+        this.plugin = plugin;
+        this.directory = new File(plugin.getDataFolder(), "players");
+        this.pendingWrites = new ConcurrentHashMap<>();
+    }
+
+    @Nullable
+    @Override
+    public ConfigurationSection loadPlayer(UUID uuid) {
+        Map<String, Object> pending = pendingWrites.get(uuid);
+        if (pending != null) {
+            return toConfiguration(pending);
+        }
+
+        File file = getFile(uuid);
+        if (!file.exists()) {
+            return null;
+        }
+
+        YamlConfiguration configuration = new YamlConfiguration();
+        try {
+            configuration.load(file);
+        } catch (IOException | InvalidConfigurationException e) {
+            plugin.getLogger().log(Level.WARNING, "Unable to load the data of player " + uuid + " from " + file.getName(), e);
+            return null;
+        }
+        return configuration;
+    }
+
+    @Override
+    public void savePlayer(UUID uuid, Map<String, Object> data) {
+        pendingWrites.put(uuid, data);
+    }
+
+    @Override
+    public void flush(boolean async) {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        if (async) {
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, this::writePending);
+        } else {
+            writePending();
+        }
+    }
+
+    private synchronized void writePending() {
+        for (Map.Entry<UUID, Map<String, Object>> entry : pendingWrites.entrySet()) {
+            UUID uuid = entry.getKey();
+            Map<String, Object> data = entry.getValue();
+            File file = getFile(uuid);
+            try {
+                ConfigurationFile.writeAtomically(file, toConfiguration(data).saveToString());
+                pendingWrites.remove(uuid, data);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to save the data of player " + uuid + " to " + file.getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Splits the {@code players.yml}, which used to contain the data of all players, into one file per player.
+     * The old file is kept as {@code players.yml.old}.
+     */
+    public void migrateLegacyFile() {
+        File legacyFile = new File(plugin.getDataFolder(), LEGACY_FILE_NAME);
+        if (!legacyFile.exists()) {
+            return;
+        }
+
+        ConfigurationSection players = YamlConfiguration.loadConfiguration(legacyFile).getConfigurationSection("players");
+        if (players != null) {
+            for (String uuid : players.getKeys(false)) {
+                ConfigurationSection section = players.getConfigurationSection(uuid);
+                File file = new File(directory, uuid + ".yml");
+                if (section == null || file.exists()) {
+                    continue;
+                }
+
+                YamlConfiguration configuration = new YamlConfiguration();
+                section.getValues(false).forEach(configuration::set);
+                try {
+                    ConfigurationFile.writeAtomically(file, configuration.saveToString());
+                } catch (IOException e) {
+                    plugin.getLogger().log(Level.SEVERE, "Unable to migrate the data of player " + uuid + " to " + file.getName(), e);
+                    return;
+                }
+            }
+        }
+
+        if (!legacyFile.renameTo(new File(plugin.getDataFolder(), LEGACY_FILE_NAME + ".old"))) {
+            plugin.getLogger().warning("Unable to rename " + LEGACY_FILE_NAME + " after migrating the player data");
+        }
+    }
+
+    /**
+     * Gets the folder which contains the file of each player.
+     *
+     * @return The players folder
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    private File getFile(UUID uuid) {
+        return new File(directory, uuid + ".yml");
     }
 
-    public void savePlayer(UUID uuid, BuildPlayer buildPlayer) {
-        getFile().set("players." + uuid.toString(), buildPlayer.serialize());
-        saveFile();
+    private YamlConfiguration toConfiguration(Map<String, Object> data) {
+        YamlConfiguration configuration = new YamlConfiguration();
+        data.forEach(configuration::set);
+        return configuration;
     }
-}
\ No newline at end of file
+}
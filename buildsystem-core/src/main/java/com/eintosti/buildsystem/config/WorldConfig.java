@@ -7,49 +7,114 @@
  */
 package com.eintosti.buildsystem.config;
 
-import com.cryptomorin.xseries.XMaterial;
 import com.eintosti.buildsystem.BuildSystem;
-import com.eintosti.buildsystem.world.BuildWorld;
-import com.eintosti.buildsystem.world.BuildWorldCreator;
-import com.eintosti.buildsystem.world.WorldManager;
+import com.eintosti.buildsystem.storage.WorldStorage;
+import com.eintosti.buildsystem.world.data.WorldStatus;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.logging.Logger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * @author einTosti
  */
-public class WorldConfig extends ConfigurationFile {
+public class WorldConfig extends ConfigurationFile implements WorldStorage {
 
-    private final BuildSystem plugin;
+    private boolean modified;
 
     public WorldConfig(BuildSystem plugin) {
         super(plugin, "worlds.yml");
-        this.plugin = plugin;
     }
 
-    public void saveWorld(BuildWorld buildWorld) {
-        getFile().set("worlds." + buildWorld.getName(), buildWorld.serialize());
-        saveFile();
-    }
+    @Override
+    public Map<String, ConfigurationSection> loadWorlds() {
+        Map<String, ConfigurationSection> worlds = new LinkedHashMap<>();
+        ConfigurationSection configurationSection = getFile().getConfigurationSection("worlds");
+        if (configurationSection == null) {
+            return worlds;
+        }
 
-    public void loadWorlds(WorldManager worldManager) {
-        Logger logger = plugin.getLogger();
-        if (plugin.getConfigValues().isUnloadWorlds()) {
-            logger.info("*** \"Unload worlds\" has been enabled in the config. Therefore worlds will not be pre-loaded ***");
-            return;
+        for (String worldName : configurationSection.getKeys(false)) {
+            ConfigurationSection section = configurationSection.getConfigurationSection(worldName);
+            if (section != null) {
+                worlds.put(worldName, section);
+            }
         }
+        return worlds;
+    }
 
-        logger.info("*** All worlds will be loaded now ***");
-        worldManager.getBuildWorlds().forEach(world -> {
-            String worldName = world.getName();
-            new BuildWorldCreator(plugin, world).generateBukkitWorld();
+    @Override
+    @Nullable
+    public ConfigurationSection loadWorld(String worldName) {
+        return getFile().getConfigurationSection("worlds." + worldName);
+    }
 
-            if (world.getMaterial() == XMaterial.PLAYER_HEAD) {
-                plugin.getSkullCache().cacheSkull(worldName);
-            }
+    /**
+     * The file does not have any indexes, so all worlds are scanned.
+     */
+    @Override
+    public Map<String, ConfigurationSection> loadWorldsByCreator(UUID creatorId) {
+        return loadWorlds(section -> creatorId.toString().equals(section.getString("creator-id")));
+    }
+
+    /**
+     * The file does not have any indexes, so all worlds are scanned.
+     */
+    @Override
+    public Map<String, ConfigurationSection> loadWorldsByStatus(WorldStatus worldStatus) {
+        return loadWorlds(section -> worldStatus.toString().equals(section.getString("status")));
+    }
+
+    private Map<String, ConfigurationSection> loadWorlds(Predicate<ConfigurationSection> filter) {
+        Map<String, ConfigurationSection> worlds = loadWorlds();
+        worlds.values().removeIf(filter.negate());
+        return worlds;
+    }
+
+    /**
+     * Updates the section of the given world. The file itself is only written by {@link #flush(boolean)}.
+     */
+    @Override
+    public void saveWorld(String worldName, Map<String, Object> data) {
+        getFile().set("worlds." + worldName, data);
+        this.modified = true;
+    }
 
-            logger.info("✔ World loaded: " + worldName);
-        });
-        logger.info("*** All worlds have been loaded ***");
+    /**
+     * Removes the section of the world with the given name. The file itself is only written by {@link #flush(boolean)}.
+     */
+    @Override
+    public void removeWorld(String worldName) {
+        getFile().set("worlds." + worldName, null);
+        this.modified = true;
+    }
+
+    /**
+     * Both sections are changed in memory, so they are always written with the same write.
+     */
+    @Override
+    public void renameWorld(String oldName, String newName, Map<String, Object> data) {
+        removeWorld(oldName);
+        saveWorld(newName, data);
+    }
+
+    /**
+     * Writes all changes since the last flush to disk using a single write.
+     */
+    @Override
+    public void flush(boolean async) {
+        if (!modified) {
+            return;
+        }
+
+        this.modified = false;
+        if (async) {
+            saveFileAsync();
+        } else {
+            saveFile();
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ package com.eintosti.buildsystem.expansion.luckperms.calculators;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
+import com.eintosti.buildsystem.world.data.Role;
 import net.luckperms.api.context.ContextCalculator;
 import net.luckperms.api.context.ContextConsumer;
 import net.luckperms.api.context.ContextSet;
@@ -34,7 +35,8 @@ public class RoleCalculator implements ContextCalculator<Player> {
     @Override
     public void calculate(@NonNull Player player, @NonNull ContextConsumer contextConsumer) {
         BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
-        contextConsumer.accept(KEY, Role.matchRole(player, buildWorld).toString());
+        Role role = buildWorld != null ? buildWorld.getRole(player.getUniqueId()) : Role.GUEST;
+        contextConsumer.accept(KEY, role.toString());
     }
 
     @NotNull
@@ -46,40 +48,4 @@ public class RoleCalculator implements ContextCalculator<Player> {
         }
         return builder.build();
     }
-
-    private enum Role {
-        /**
-         * The creator of a {@link BuildWorld}.
-         */
-        CREATOR,
-
-        /**
-         * A player which has been added to the list of trusted players and is therefore allowed to build in a {@link BuildWorld}.
-         */
-        BUILDER,
-
-        /**
-         * A player which is neither the {@link #CREATOR} nor a {@link #BUILDER} in a {@link BuildWorld}.
-         */
-        GUEST;
-
-        public static Role matchRole(Player player, BuildWorld buildWorld) {
-            if (buildWorld == null) {
-                return GUEST;
-            }
-
-            if (buildWorld.isCreator(player)) {
-                return CREATOR;
-            } else if (buildWorld.isBuilder(player.getUniqueId())) {
-                return BUILDER;
-            } else {
-                return GUEST;
-            }
-        }
-
-        @Override
-        public String toString() {
-            return this.name().toLowerCase();
-        }
-    }
 }
\ No newline at end of file
@@ -42,12 +42,13 @@ public class AsyncPlayerPreLoginListener implements Listener {
 
     @EventHandler
     public void onAsyncPlayerPreLogin(AsyncPlayerPreLoginEvent event) {
-        UUID uuid = event.getUniqueId();
-        BuildPlayer buildPlayer = playerManager.getBuildPlayer(uuid);
-        if (buildPlayer == null) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
             return;
         }
 
+        UUID uuid = event.getUniqueId();
+        BuildPlayer buildPlayer = playerManager.loadBuildPlayer(uuid);
+
         Settings settings = buildPlayer.getSettings();
         if (settings.isSpawnTeleport() && spawnManager.spawnExists()) {
             return;
@@ -62,7 +63,11 @@ public class AsyncPlayerPreLoginListener implements Listener {
         if (buildWorld == null) {
             buildPlayer.setLogoutLocation(null);
         } else {
-            Bukkit.getScheduler().runTask(plugin, () -> buildWorld.load());
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (!worldManager.getWorldLoadScheduler().prioritize(buildWorld)) {
+                    buildWorld.load();
+                }
+            });
         }
     }
 }
\ No newline at end of file
@@ -11,31 +11,29 @@ import com.cryptomorin.xseries.XMaterial;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
-import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.entity.EntityType;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.BlockExplodeEvent;
 import org.bukkit.event.block.BlockFadeEvent;
 import org.bukkit.event.block.BlockFormEvent;
 import org.bukkit.event.block.BlockFromToEvent;
 import org.bukkit.event.block.BlockGrowEvent;
 import org.bukkit.event.block.BlockPhysicsEvent;
-import org.bukkit.event.block.BlockRedstoneEvent;
 import org.bukkit.event.block.BlockSpreadEvent;
 import org.bukkit.event.block.LeavesDecayEvent;
 import org.bukkit.event.entity.EntityChangeBlockEvent;
-import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.metadata.MetadataValue;
 
 import java.util.List;
 
 /**
+ * Only registered while at least one loaded {@link BuildWorld} has its physics disabled.
+ *
  * @author einTosti
+ * @see WorldSettingsListenerGate
  */
 public class BlockPhysicsListener implements Listener {
 
@@ -43,14 +41,13 @@ public class BlockPhysicsListener implements Listener {
 
     public BlockPhysicsListener(BuildSystem plugin) {
         this.worldManager = plugin.getWorldManager();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     @EventHandler
     public void onBlockPhysics(BlockPhysicsEvent event) {
         Block block = event.getBlock();
         World bukkitWorld = block.getWorld();
-        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld.getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld);
 
         if (buildWorld == null || buildWorld.isPhysics()) {
             return;
@@ -81,7 +78,7 @@ public class BlockPhysicsListener implements Listener {
         event.setCancelled(true);
     }
 
-    private boolean isCustomRedstoneLamp(Block block) {
+    static boolean isCustomRedstoneLamp(Block block) {
         List<MetadataValue> metadataValues = block.getMetadata("CustomRedstoneLamp");
         for (MetadataValue value : metadataValues) {
             if (value.asBoolean()) {
@@ -94,7 +91,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onLeavesDecay(LeavesDecayEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -104,7 +101,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onBlockFade(BlockFadeEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -114,7 +111,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onBlockForm(BlockFormEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -124,7 +121,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onBlockFromTo(BlockFromToEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -134,7 +131,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onBlockGrow(BlockGrowEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -144,7 +141,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onBlockSpread(BlockSpreadEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld != null && !buildWorld.isPhysics()) {
             event.setCancelled(true);
@@ -154,7 +151,7 @@ public class BlockPhysicsListener implements Listener {
     @EventHandler
     public void onEntityChangeBlock(EntityChangeBlockEvent event) {
         Block block = event.getBlock();
-        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(block.getWorld());
 
         if (buildWorld == null || buildWorld.isPhysics()) {
             return;
@@ -165,46 +162,4 @@ public class BlockPhysicsListener implements Listener {
             event.getBlock().getState().update(false, false);
         }
     }
-
-    @EventHandler(priority = EventPriority.HIGHEST)
-    public void onBlockRedstone(BlockRedstoneEvent event) {
-        Block block = event.getBlock();
-        XMaterial xMaterial = XMaterial.matchXMaterial(block.getType());
-
-        if (isCustomRedstoneLamp(block)) {
-            event.setNewCurrent(15);
-        }
-
-        if (xMaterial != XMaterial.REDSTONE_BLOCK) {
-            return;
-        }
-
-        for (BlockFace blockFace : new BlockFace[]{BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST}) {
-            if (isCustomRedstoneLamp(block.getRelative(blockFace))) {
-                event.setNewCurrent(15);
-            }
-        }
-    }
-
-    @EventHandler
-    public void onBlockExplode(BlockExplodeEvent event) {
-        Block block = event.getBlock();
-        World bukkitWorld = block.getWorld();
-        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld.getName());
-
-        if (buildWorld != null && !buildWorld.isExplosions()) {
-            event.setCancelled(true);
-        }
-    }
-
-    @EventHandler
-    public void onEntityExplode(EntityExplodeEvent event) {
-        Location location = event.getLocation();
-        World bukkitWorld = location.getWorld();
-        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld.getName());
-
-        if (buildWorld != null && !buildWorld.isExplosions()) {
-            event.setCancelled(true);
-        }
-    }
 }
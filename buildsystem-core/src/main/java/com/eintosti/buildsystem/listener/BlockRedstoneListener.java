@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.listener;
+
+import com.cryptomorin.xseries.XMaterial;
+import com.eintosti.buildsystem.BuildSystem;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockRedstoneEvent;
+
+/**
+ * @author einTosti
+ */
+public class BlockRedstoneListener implements Listener {
+
+    public BlockRedstoneListener(BuildSystem plugin) {
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    public void onBlockRedstone(BlockRedstoneEvent event) {
+        Block block = event.getBlock();
+        XMaterial xMaterial = XMaterial.matchXMaterial(block.getType());
+
+        if (BlockPhysicsListener.isCustomRedstoneLamp(block)) {
+            event.setNewCurrent(15);
+        }
+
+        if (xMaterial != XMaterial.REDSTONE_BLOCK) {
+            return;
+        }
+
+        for (BlockFace blockFace : new BlockFace[]{BlockFace.UP, BlockFace.DOWN, BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST}) {
+            if (BlockPhysicsListener.isCustomRedstoneLamp(block.getRelative(blockFace))) {
+                event.setNewCurrent(15);
+            }
+        }
+    }
+}
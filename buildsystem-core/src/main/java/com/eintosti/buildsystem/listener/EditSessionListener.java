@@ -10,6 +10,7 @@ package com.eintosti.buildsystem.listener;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
+import com.eintosti.buildsystem.world.data.Role;
 import com.eintosti.buildsystem.world.data.WorldStatus;
 import com.sk89q.worldedit.EditSession;
 import com.sk89q.worldedit.WorldEdit;
@@ -45,7 +46,7 @@ public class EditSessionListener implements Listener {
             return;
         }
 
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
@@ -71,11 +72,12 @@ public class EditSessionListener implements Listener {
             return;
         }
 
-        if (buildWorld.isCreator(player)) {
+        Role role = buildWorld.getRole(player.getUniqueId());
+        if (role == Role.CREATOR) {
             return;
         }
 
-        if (buildWorld.isBuilders() && !buildWorld.isBuilder(player)) {
+        if (buildWorld.isBuilders() && role != Role.BUILDER) {
             event.setExtent(new NullExtent());
         }
     }
@@ -19,7 +19,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntitySpawnEvent;
 
 /**
+ * Only registered while at least one loaded {@link BuildWorld} has its mob AI disabled.
+ *
  * @author einTosti
+ * @see WorldSettingsListenerGate
  */
 public class EntitySpawnListener implements Listener {
 
@@ -27,7 +30,6 @@ public class EntitySpawnListener implements Listener {
 
     public EntitySpawnListener(BuildSystem plugin) {
         this.worldManager = plugin.getWorldManager();
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
     @EventHandler
@@ -37,7 +39,7 @@ public class EntitySpawnListener implements Listener {
             return;
         }
 
-        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld.getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld);
         if (buildWorld == null || buildWorld.isMobAI()) {
             return;
         }
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.listener;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.world.BuildWorld;
+import com.eintosti.buildsystem.world.WorldManager;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+
+/**
+ * Only registered while at least one loaded {@link BuildWorld} has its explosions disabled.
+ *
+ * @author einTosti
+ * @see WorldSettingsListenerGate
+ */
+public class ExplosionListener implements Listener {
+
+    private final WorldManager worldManager;
+
+    public ExplosionListener(BuildSystem plugin) {
+        this.worldManager = plugin.getWorldManager();
+    }
+
+    @EventHandler
+    public void onBlockExplode(BlockExplodeEvent event) {
+        World bukkitWorld = event.getBlock().getWorld();
+        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld);
+
+        if (buildWorld != null && !buildWorld.isExplosions()) {
+            event.setCancelled(true);
+        }
+    }
+
+    @EventHandler
+    public void onEntityExplode(EntityExplodeEvent event) {
+        World bukkitWorld = event.getLocation().getWorld();
+        if (bukkitWorld == null) {
+            return;
+        }
+
+        BuildWorld buildWorld = worldManager.getBuildWorld(bukkitWorld);
+        if (buildWorld != null && !buildWorld.isExplosions()) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -76,11 +76,6 @@ public class PlayerChangedWorldListener implements Listener {
         Player player = event.getPlayer();
         String worldName = player.getWorld().getName();
 
-        BuildWorld oldWorld = worldManager.getBuildWorld(event.getFrom().getName());
-        if (oldWorld != null && configValues.isUnloadWorlds()) {
-            oldWorld.resetUnloadTask();
-        }
-
         BuildWorld newWorld = worldManager.getBuildWorld(worldName);
         if (newWorld != null) {
             if (!newWorld.isPhysics()) {
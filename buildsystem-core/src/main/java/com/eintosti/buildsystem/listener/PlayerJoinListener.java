@@ -97,6 +97,10 @@ public class PlayerJoinListener implements Listener {
         } else {
             LogoutLocation logoutLocation = buildPlayer.getLogoutLocation();
             if (logoutLocation != null) {
+                BuildWorld logoutWorld = worldManager.getBuildWorld(logoutLocation.getWorldName());
+                if (logoutWorld != null) {
+                    worldManager.getWorldLoadScheduler().loadNow(logoutWorld);
+                }
                 PaperLib.teleportAsync(player, logoutLocation.getLocation());
             }
         }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.listener;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.event.world.BuildWorldLoadEvent;
+import com.eintosti.buildsystem.event.world.BuildWorldUnloadEvent;
+import com.eintosti.buildsystem.world.BuildWorld;
+import com.eintosti.buildsystem.world.BuildWorldRegistry;
+import com.eintosti.buildsystem.world.WorldEvictionPolicy;
+import org.bukkit.World;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps the {@link World} to {@link BuildWorld} bindings of the {@link BuildWorldRegistry} up to date.
+ * <p>
+ * Besides {@link BuildWorldLoadEvent} and {@link BuildWorldUnloadEvent}, the bukkit events are listened to as well,
+ * since worlds are also loaded on startup or by other plugins without a build world event being called.
+ *
+ * @author einTosti
+ */
+public class WorldBindingListener implements Listener {
+
+    private final BuildSystem plugin;
+    private final BuildWorldRegistry worldRegistry;
+
+    public WorldBindingListener(BuildSystem plugin) {
+        this.plugin = plugin;
+        this.worldRegistry = plugin.getWorldManager().getWorldRegistry();
+        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onWorldLoad(WorldLoadEvent event) {
+        BuildWorld buildWorld = worldRegistry.bind(event.getWorld());
+        if (buildWorld != null) {
+            plugin.getListenerGate().update();
+            trackRecentUse(buildWorld);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        worldRegistry.unbind(event.getWorld());
+        plugin.getListenerGate().update();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onBuildWorldLoad(BuildWorldLoadEvent event) {
+        World bukkitWorld = event.getBuildWorld().getWorld();
+        if (bukkitWorld != null) {
+            worldRegistry.bind(bukkitWorld);
+            plugin.getListenerGate().update();
+            trackRecentUse(event.getBuildWorld());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onBuildWorldUnload(BuildWorldUnloadEvent event) {
+        worldRegistry.unbind(event.getBuildWorld());
+        plugin.getListenerGate().update();
+    }
+
+    private void trackRecentUse(BuildWorld buildWorld) {
+        WorldEvictionPolicy evictionPolicy = plugin.getWorldManager().getWorldEvictionPolicy();
+        evictionPolicy.touch(buildWorld);
+        evictionPolicy.enforceLimit();
+    }
+}
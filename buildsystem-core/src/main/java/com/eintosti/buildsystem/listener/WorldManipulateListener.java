@@ -12,6 +12,7 @@ import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.Builder;
 import com.eintosti.buildsystem.world.WorldManager;
+import com.eintosti.buildsystem.world.data.Role;
 import com.eintosti.buildsystem.world.data.WorldStatus;
 import org.bukkit.entity.ArmorStand;
 import org.bukkit.entity.Player;
@@ -49,12 +50,12 @@ public class WorldManipulateListener implements Listener {
         }
 
         Player player = event.getPlayer();
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
 
-        if (!manageWorldInteraction(player, event, buildWorld.isBlockBreaking())) {
+        if (!manageWorldInteraction(player, event, buildWorld, buildWorld.isBlockBreaking())) {
             setStatus(buildWorld, player);
         }
     }
@@ -66,12 +67,12 @@ public class WorldManipulateListener implements Listener {
         }
 
         Player player = event.getPlayer();
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
 
-        if (!manageWorldInteraction(player, event, buildWorld.isBlockPlacement())) {
+        if (!manageWorldInteraction(player, event, buildWorld, buildWorld.isBlockPlacement())) {
             setStatus(buildWorld, player);
         }
     }
@@ -83,25 +84,25 @@ public class WorldManipulateListener implements Listener {
         }
         Player player = (Player) event.getDamager();
 
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
 
         if (event.getEntity() instanceof ArmorStand) {
-            manageWorldInteraction(player, event, buildWorld.isBlockInteractions());
+            manageWorldInteraction(player, event, buildWorld, buildWorld.isBlockInteractions());
         }
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerArmorStandManipulate(PlayerArmorStandManipulateEvent event) {
         Player player = event.getPlayer();
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
 
-        manageWorldInteraction(player, event, buildWorld.isBlockInteractions());
+        manageWorldInteraction(player, event, buildWorld, buildWorld.isBlockInteractions());
     }
 
     @EventHandler(priority = EventPriority.HIGHEST)
@@ -112,12 +113,12 @@ public class WorldManipulateListener implements Listener {
         }
 
         Player player = event.getPlayer();
-        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld().getName());
+        BuildWorld buildWorld = worldManager.getBuildWorld(player.getWorld());
         if (buildWorld == null) {
             return;
         }
 
-        manageWorldInteraction(player, event, buildWorld.isBlockInteractions());
+        manageWorldInteraction(player, event, buildWorld, buildWorld.isBlockInteractions());
 
         if (!buildWorld.isPhysics() && event.getClickedBlock() != null) {
             if (event.getAction() == Action.PHYSICAL && event.getClickedBlock().getType() == XMaterial.FARMLAND.parseMaterial()) {
@@ -143,17 +144,13 @@ public class WorldManipulateListener implements Listener {
      *     <li>The player has used {@code /build} to enter build-mode.</li>
      * </ul>
      *
-     * @param player the player who manipulated the world
-     * @param event  the event which was called by the world manipulation
+     * @param player       the player who manipulated the world
+     * @param event        the event which was called by the world manipulation
+     * @param buildWorld   the world which was manipulated
+     * @param worldSetting the world setting which allows the manipulation
      * @return if the event called when the player performs an action was cancelled
      */
-    private boolean manageWorldInteraction(Player player, Event event, boolean worldSetting) {
-        String worldName = player.getWorld().getName();
-        BuildWorld buildWorld = worldManager.getBuildWorld(worldName);
-        if (buildWorld == null) {
-            return false;
-        }
-
+    private boolean manageWorldInteraction(Player player, Event event, BuildWorld buildWorld, boolean worldSetting) {
         if (disableArchivedWorlds(buildWorld, player, event)) {
             return true;
         }
@@ -196,11 +193,12 @@ public class WorldManipulateListener implements Listener {
             return false;
         }
 
-        if (buildWorld.isCreator(player)) {
+        Role role = buildWorld.getRole(player.getUniqueId());
+        if (role == Role.CREATOR) {
             return false;
         }
 
-        if (buildWorld.isBuilders() && !buildWorld.isBuilder(player)) {
+        if (buildWorld.isBuilders() && role != Role.BUILDER) {
             ((Cancellable) event).setCancelled(true);
             denyPlayerInteraction(event);
             return true;
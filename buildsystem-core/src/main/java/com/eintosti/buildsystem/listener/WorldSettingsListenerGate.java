@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.listener;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.world.BuildWorld;
+import com.eintosti.buildsystem.world.BuildWorldRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Registers the listeners which enforce a world setting only while at least one loaded {@link BuildWorld}
+ * has said setting disabled. Servers on which every world uses the default settings therefore do not have
+ * to handle any of those (frequently called) events.
+ * <p>
+ * A listener is registered as soon as it is required, but only unregistered on the next tick. This way,
+ * toggling a setting back and forth within the same tick does not cause the listener to be re-registered.
+ *
+ * @author einTosti
+ */
+public class WorldSettingsListenerGate {
+
+    private final BuildSystem plugin;
+    private final BuildWorldRegistry worldRegistry;
+
+    private final Map<Setting, Listener> listeners;
+    private final Set<Setting> registeredSettings;
+
+    private boolean releaseScheduled;
+
+    public WorldSettingsListenerGate(BuildSystem plugin) {
+        this.plugin = plugin;
+        this.worldRegistry = plugin.getWorldManager().getWorldRegistry();
+
+        this.listeners = new EnumMap<>(Setting.class);
+        this.listeners.put(Setting.PHYSICS, new BlockPhysicsListener(plugin));
+        this.listeners.put(Setting.EXPLOSIONS, new ExplosionListener(plugin));
+        this.listeners.put(Setting.MOB_AI, new EntitySpawnListener(plugin));
+        this.registeredSettings = EnumSet.noneOf(Setting.class);
+
+        update();
+    }
+
+    /**
+     * Re-evaluates which listeners are required.
+     * Must be called whenever a gated setting changes or a world is loaded or unloaded.
+     */
+    public void update() {
+        for (Setting setting : Setting.values()) {
+            if (!registeredSettings.contains(setting) && isRequired(setting)) {
+                Bukkit.getPluginManager().registerEvents(listeners.get(setting), plugin);
+                registeredSettings.add(setting);
+            }
+        }
+
+        if (!registeredSettings.isEmpty()) {
+            scheduleRelease();
+        }
+    }
+
+    private void scheduleRelease() {
+        if (releaseScheduled || !plugin.isEnabled()) {
+            return;
+        }
+
+        this.releaseScheduled = true;
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            this.releaseScheduled = false;
+            registeredSettings.removeIf(setting -> {
+                if (isRequired(setting)) {
+                    return false;
+                }
+                HandlerList.unregisterAll(listeners.get(setting));
+                return true;
+            });
+        });
+    }
+
+    private boolean isRequired(Setting setting) {
+        for (BuildWorld buildWorld : worldRegistry.getLoadedWorlds()) {
+            if (setting.isDisabledIn(buildWorld)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private enum Setting {
+        PHYSICS(buildWorld -> !buildWorld.isPhysics()),
+        EXPLOSIONS(buildWorld -> !buildWorld.isExplosions()),
+        MOB_AI(buildWorld -> !buildWorld.isMobAI());
+
+        private final Predicate<BuildWorld> disabled;
+
+        Setting(Predicate<BuildWorld> disabled) {
+            this.disabled = disabled;
+        }
+
+        public boolean isDisabledIn(BuildWorld buildWorld) {
+            return disabled.test(buildWorld);
+        }
+    }
+}
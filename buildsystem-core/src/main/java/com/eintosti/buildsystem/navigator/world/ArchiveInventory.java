@@ -32,9 +32,8 @@ public class ArchiveInventory extends FilteredWorldsInventory {
     }
 
     @Override
-    protected Inventory createInventory(Player player) {
-        Inventory inventory = super.createInventory(player);
+    protected void addNavigationItems(Player player, Inventory inventory, int page, int numOfPages) {
+        super.addNavigationItems(player, inventory, page, numOfPages);
         inventoryUtil.addGlassPane(plugin, player, inventory, 49);
-        return inventory;
     }
 }
\ No newline at end of file
@@ -11,8 +11,10 @@ import com.cryptomorin.xseries.XMaterial;
 import com.cryptomorin.xseries.XSound;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
+import com.eintosti.buildsystem.settings.Settings;
 import com.eintosti.buildsystem.util.InventoryUtil;
 import com.eintosti.buildsystem.util.PaginatedInventory;
+import com.eintosti.buildsystem.util.external.PlayerChatInput;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
 import com.eintosti.buildsystem.world.data.WorldStatus;
@@ -23,17 +25,27 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * @author einTosti
  */
 public class FilteredWorldsInventory extends PaginatedInventory implements Listener {
 
-    private static final int MAX_WORLDS = 36;
+    private static final int SEARCH_SLOT = 47;
 
     private final BuildSystem plugin;
     private final InventoryUtil inventoryUtil;
@@ -43,6 +55,8 @@ public class FilteredWorldsInventory extends PaginatedInventory implements Liste
     private final String noWorldsText;
     private final Visibility visibility;
     private final Set<WorldStatus> validStatus;
+    private final Map<UUID, NavigatorSession> sessions;
+    private final Map<UUID, String> searchQueries;
 
     public FilteredWorldsInventory(BuildSystem plugin, String inventoryName, String noWorldsText, Visibility visibility, Set<WorldStatus> validStatus) {
         this.plugin = plugin;
@@ -53,29 +67,55 @@ public class FilteredWorldsInventory extends PaginatedInventory implements Liste
         this.noWorldsText = noWorldsText;
         this.visibility = visibility;
         this.validStatus = validStatus;
+        this.sessions = new HashMap<>();
+        this.searchQueries = new HashMap<>();
 
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
-    protected Inventory createInventory(Player player) {
-        Inventory inventory = Bukkit.createInventory(null, 54, Messages.getString(inventoryName));
-
-        int numOfPages = (numOfWorlds(player) / MAX_WORLDS) + (numOfWorlds(player) % MAX_WORLDS == 0 ? 0 : 1);
-        inventoryUtil.fillMultiInvWithGlass(plugin, inventory, player, getInvIndex(player), numOfPages);
+    /**
+     * Adds the items which surround the worlds on every page.
+     *
+     * @param player     The player to show the inventory to
+     * @param inventory  The inventory to add the items to
+     * @param page       The index of the page which is shown
+     * @param numOfPages The amount of pages
+     */
+    protected void addNavigationItems(Player player, Inventory inventory, int page, int numOfPages) {
+        inventoryUtil.fillMultiInvWithGlass(plugin, inventory, player, page, numOfPages);
+        addSearchItem(player, inventory);
+    }
 
-        return inventory;
+    private void addSearchItem(Player player, Inventory inventory) {
+        String query = searchQueries.get(player.getUniqueId());
+        if (query == null) {
+            inventoryUtil.addItemStack(inventory, SEARCH_SLOT, XMaterial.NAME_TAG, Messages.getString("navigator_search"),
+                    Messages.getStringList("navigator_search_lore")
+            );
+        } else {
+            inventoryUtil.addItemStack(inventory, SEARCH_SLOT, XMaterial.NAME_TAG, Messages.getString("navigator_search"),
+                    Messages.getStringList("navigator_search_lore_active", new AbstractMap.SimpleEntry<>("%query%", query))
+            );
+        }
     }
 
     /**
-     * Gets the amount of worlds that are to be displayed in the inventory.
+     * Gets the worlds that are to be displayed in the inventory, in the order chosen by the player.
+     * If the player is searching for worlds, only the results of the search are displayed.
      *
      * @param player The player to show the inventory to
-     * @return The amount of worlds
+     * @return The worlds to display
      */
-    private int numOfWorlds(Player player) {
-        return (int) worldManager.getBuildWorlds().stream()
+    private List<BuildWorld> getWorlds(Player player) {
+        Settings settings = plugin.getSettingsManager().getSettings(player);
+        String query = searchQueries.get(player.getUniqueId());
+        Collection<BuildWorld> buildWorlds = query != null
+                ? worldManager.getWorldRegistry().search(query, settings.getWorldSort())
+                : inventoryUtil.sortWorlds(worldManager, settings);
+
+        return buildWorlds.stream()
                 .filter(buildWorld -> isValidWorld(player, buildWorld))
-                .count();
+                .collect(Collectors.toList());
     }
 
     /**
@@ -87,40 +127,53 @@ public class FilteredWorldsInventory extends PaginatedInventory implements Liste
         return visibility;
     }
 
+    /**
+     * Opens the inventory on the page the player has last seen, starting a new {@link NavigatorSession}.
+     *
+     * @param player The player to show the inventory to
+     */
     public void openInventory(Player player) {
-        player.openInventory(getInventory(player));
+        Inventory inventory = Bukkit.createInventory(null, 54, Messages.getString(inventoryName));
+        NavigatorSession session = new NavigatorSession(inventory, getWorlds(player));
+        sessions.put(player.getUniqueId(), session);
+
+        renderPage(player, session);
+        player.openInventory(inventory);
     }
 
-    private Inventory getInventory(Player player) {
-        addWorlds(player);
-        return inventories[getInvIndex(player)];
+    /**
+     * Shows the page the player has switched to in the inventory which is already open.
+     *
+     * @param player The player who switched the page
+     */
+    private void turnPage(Player player) {
+        NavigatorSession session = sessions.get(player.getUniqueId());
+        if (session == null) {
+            openInventory(player);
+            return;
+        }
+        renderPage(player, session);
     }
 
-    private void addWorlds(Player player) {
-        int numWorlds = numOfWorlds(player);
-        int numInventories = (numWorlds % MAX_WORLDS == 0 ? numWorlds : numWorlds + 1) != 0 ? (numWorlds % MAX_WORLDS == 0 ? numWorlds : numWorlds + 1) : 1;
+    private void renderPage(Player player, NavigatorSession session) {
+        int numOfPages = session.getNumOfPages();
+        int page = Math.max(0, Math.min(getInvIndex(player), numOfPages - 1));
+        setInvIndex(player, page);
+        session.setPage(page);
 
-        inventories = new Inventory[numInventories];
-        Inventory inventory = createInventory(player);
+        Inventory inventory = session.getInventory();
+        inventory.clear();
+        addNavigationItems(player, inventory, page, numOfPages);
 
-        int index = 0;
-        inventories[index] = inventory;
-        if (numWorlds == 0) {
-            inventoryUtil.addUrlSkull(inventory, 22, Messages.getString(noWorldsText), "2e3f50ba62cbda3ecf5479b62fedebd61d76589771cc19286bf2745cd71e47c6");
+        if (session.isEmpty()) {
+            String text = searchQueries.containsKey(player.getUniqueId()) ? "navigator_search_no_results" : noWorldsText;
+            inventoryUtil.addUrlSkull(inventory, 22, Messages.getString(text), "2e3f50ba62cbda3ecf5479b62fedebd61d76589771cc19286bf2745cd71e47c6");
             return;
         }
 
-        int columnWorld = 9, maxColumnWorld = 44;
-        for (BuildWorld buildWorld : inventoryUtil.sortWorlds(worldManager, plugin.getSettingsManager().getSettings(player))) {
-            if (isValidWorld(player, buildWorld)) {
-                inventoryUtil.addWorldItem(player, inventory, columnWorld++, buildWorld);
-            }
-
-            if (columnWorld > maxColumnWorld) {
-                columnWorld = 9;
-                inventory = createInventory(player);
-                inventories[++index] = inventory;
-            }
+        int slot = NavigatorSession.FIRST_WORLD_SLOT;
+        for (BuildWorld buildWorld : session.getWorlds(page)) {
+            inventoryUtil.addWorldItem(player, inventory, slot++, buildWorld);
         }
     }
 
@@ -178,12 +231,17 @@ public class FilteredWorldsInventory extends PaginatedInventory implements Liste
         Player player = (Player) event.getWhoClicked();
         Material itemType = itemStack.getType();
 
+        if (event.getRawSlot() == SEARCH_SLOT && itemType == XMaterial.NAME_TAG.parseMaterial()) {
+            manageSearchClick(event, player);
+            return;
+        }
+
         if (itemType == XMaterial.PLAYER_HEAD.parseMaterial()) {
             switch (event.getSlot()) {
                 case 45:
                     decrementInv(player);
                     XSound.ENTITY_CHICKEN_EGG.play(player);
-                    openInventory(player);
+                    turnPage(player);
                     return;
                 case 49:
                     XSound.ENTITY_CHICKEN_EGG.play(player);
@@ -192,12 +250,77 @@ public class FilteredWorldsInventory extends PaginatedInventory implements Liste
                 case 53:
                     incrementInv(player);
                     XSound.ENTITY_CHICKEN_EGG.play(player);
-                    openInventory(player);
+                    turnPage(player);
                     return;
             }
         }
 
-        inventoryUtil.manageInventoryClick(event, player, itemStack);
+        inventoryUtil.manageInventoryClick(event, player, itemStack, getClickedWorld(player, event.getRawSlot()));
+    }
+
+    /**
+     * Starts a new search when the search item is clicked, or clears the current search on a right click.
+     *
+     * @param event  The click event
+     * @param player The player who clicked
+     */
+    private void manageSearchClick(InventoryClickEvent event, Player player) {
+        UUID playerUuid = player.getUniqueId();
+        if (event.isRightClick() && searchQueries.remove(playerUuid) != null) {
+            XSound.ENTITY_CHICKEN_EGG.play(player);
+            setInvIndex(player, 0);
+            openInventory(player);
+            return;
+        }
+
+        new PlayerChatInput(plugin, player, "enter_world_search", input -> {
+            String query = input.trim();
+            if (query.isEmpty()) {
+                searchQueries.remove(playerUuid);
+            } else {
+                searchQueries.put(playerUuid, query);
+            }
+
+            if (player.isOnline()) {
+                setInvIndex(player, 0);
+                openInventory(player);
+            }
+        });
+    }
+
+    /**
+     * Looks up the world in the clicked slot in the player's {@link NavigatorSession}.
+     *
+     * @param player The player who clicked
+     * @param slot   The raw slot which was clicked
+     * @return The world in the slot, or {@code null} if the slot does not show a world which is still registered
+     */
+    @Nullable
+    private BuildWorld getClickedWorld(Player player, int slot) {
+        NavigatorSession session = sessions.get(player.getUniqueId());
+        if (session == null) {
+            return null;
+        }
+
+        BuildWorld buildWorld = session.getWorld(slot);
+        if (buildWorld == null || !worldManager.getWorldRegistry().contains(buildWorld)) {
+            return null;
+        }
+        return buildWorld;
+    }
+
+    @EventHandler
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        searchQueries.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler
+    public void onInventoryClose(InventoryCloseEvent event) {
+        UUID playerUuid = event.getPlayer().getUniqueId();
+        NavigatorSession session = sessions.get(playerUuid);
+        if (session != null && session.getInventory().equals(event.getInventory())) {
+            sessions.remove(playerUuid);
+        }
     }
 
     public enum Visibility {
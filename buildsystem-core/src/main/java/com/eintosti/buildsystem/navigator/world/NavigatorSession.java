@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.navigator.world;
+
+import com.eintosti.buildsystem.world.BuildWorld;
+import org.bukkit.inventory.Inventory;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * The state of a {@link FilteredWorldsInventory} which is opened by a single player.
+ * <p>
+ * The worlds which are shown to the player are filtered and sorted once when the navigator is opened.
+ * Only the page which is currently shown is rendered into the session's inventory, so turning a page does not
+ * have to build the items of any other page. Since the session knows which page is shown, the world in a clicked
+ * slot can be looked up directly.
+ *
+ * @author einTosti
+ */
+class NavigatorSession {
+
+    static final int WORLDS_PER_PAGE = 36;
+    static final int FIRST_WORLD_SLOT = 9;
+
+    private final Inventory inventory;
+    private final List<BuildWorld> worlds;
+
+    private int page;
+
+    NavigatorSession(Inventory inventory, List<BuildWorld> worlds) {
+        this.inventory = inventory;
+        this.worlds = worlds;
+    }
+
+    Inventory getInventory() {
+        return inventory;
+    }
+
+    boolean isEmpty() {
+        return worlds.isEmpty();
+    }
+
+    /**
+     * Gets the amount of pages which are needed to show all worlds. There is always at least one page.
+     *
+     * @return The amount of pages
+     */
+    int getNumOfPages() {
+        return Math.max(1, (worlds.size() + WORLDS_PER_PAGE - 1) / WORLDS_PER_PAGE);
+    }
+
+    /**
+     * Sets the index of the page which is currently shown.
+     *
+     * @param page The index of the page
+     */
+    void setPage(int page) {
+        this.page = page;
+    }
+
+    /**
+     * Gets the world which is shown in the given slot of the current page.
+     *
+     * @param slot The slot of the inventory
+     * @return The world in the slot, or {@code null} if the slot does not show a world
+     */
+    @Nullable
+    BuildWorld getWorld(int slot) {
+        int offset = slot - FIRST_WORLD_SLOT;
+        if (offset < 0 || offset >= WORLDS_PER_PAGE) {
+            return null;
+        }
+
+        int index = page * WORLDS_PER_PAGE + offset;
+        return index < worlds.size() ? worlds.get(index) : null;
+    }
+
+    /**
+     * Gets the worlds which are shown on the given page.
+     *
+     * @param page The index of the page
+     * @return The worlds on the page
+     */
+    List<BuildWorld> getWorlds(int page) {
+        int fromIndex = Math.min(page * WORLDS_PER_PAGE, worlds.size());
+        int toIndex = Math.min(fromIndex + WORLDS_PER_PAGE, worlds.size());
+        return worlds.subList(fromIndex, toIndex);
+    }
+}
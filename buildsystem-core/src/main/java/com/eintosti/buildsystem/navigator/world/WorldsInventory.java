@@ -36,12 +36,11 @@ public class WorldsInventory extends FilteredWorldsInventory {
     }
 
     @Override
-    protected Inventory createInventory(Player player) {
-        Inventory inventory = super.createInventory(player);
+    protected void addNavigationItems(Player player, Inventory inventory, int page, int numOfPages) {
+        super.addNavigationItems(player, inventory, page, numOfPages);
         if (playerManager.canCreateWorld(player, super.getVisibility())) {
             addWorldCreateItem(inventory, player);
         }
-        return inventory;
     }
 
     private void addWorldCreateItem(Inventory inventory, Player player) {
@@ -13,7 +13,6 @@ import com.cryptomorin.xseries.messages.ActionBar;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.config.ConfigValues;
-import com.eintosti.buildsystem.config.PlayersConfig;
 import com.eintosti.buildsystem.navigator.NavigatorInventoryType;
 import com.eintosti.buildsystem.navigator.NavigatorType;
 import com.eintosti.buildsystem.navigator.WorldSort;
@@ -21,6 +20,7 @@ import com.eintosti.buildsystem.navigator.world.FilteredWorldsInventory.Visibili
 import com.eintosti.buildsystem.settings.DesignColor;
 import com.eintosti.buildsystem.settings.Settings;
 import com.eintosti.buildsystem.settings.SettingsManager;
+import com.eintosti.buildsystem.storage.PlayerStorage;
 import com.eintosti.buildsystem.util.InventoryUtil;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
@@ -28,7 +28,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Player;
@@ -40,13 +39,17 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * Only the players which are online, or have been online recently, are kept in memory.
+ * A player's data is loaded when they log in and unloaded once they have been offline for a while.
+ * Changes are written in batches, but only for players whose data actually changed.
+ *
  * @author einTosti
  */
 public class PlayerManager {
@@ -55,20 +58,24 @@ public class PlayerManager {
     private static final double MAX_HEIGHT = 0.16481381407766063;
 
     private final BuildSystem plugin;
-    private final PlayersConfig playersConfig;
+    private final PlayerStorage playerStorage;
     private final ConfigValues configValues;
 
     private final Map<UUID, BuildPlayer> buildPlayers;
+    private final Map<UUID, Map<String, Object>> savedStates;
+    private final Map<UUID, Long> offlineSince;
 
     private final Set<Player> openNavigator;
     private final Set<UUID> buildModePlayers;
 
     public PlayerManager(BuildSystem plugin) {
         this.plugin = plugin;
-        this.playersConfig = new PlayersConfig(plugin);
+        this.playerStorage = plugin.getStorageManager().getPlayerStorage();
         this.configValues = plugin.getConfigValues();
 
-        this.buildPlayers = new HashMap<>();
+        this.buildPlayers = new ConcurrentHashMap<>();
+        this.savedStates = new ConcurrentHashMap<>();
+        this.offlineSince = new ConcurrentHashMap<>();
 
         this.openNavigator = new HashSet<>();
         this.buildModePlayers = new HashSet<>();
@@ -83,7 +90,43 @@ public class PlayerManager {
     }
 
     public BuildPlayer createBuildPlayer(Player player) {
-        return createBuildPlayer(player.getUniqueId(), new Settings());
+        return loadBuildPlayer(player.getUniqueId());
+    }
+
+    /**
+     * Gets the {@link BuildPlayer} with the given unique-id, loading it from disk if it is not cached.
+     * If the player has never joined before, a new player with the default settings is created.
+     * <p>
+     * Can safely be called asynchronously, e.g. while the player is logging in.
+     *
+     * @param uuid The unique-id of the player
+     * @return The build player
+     */
+    public BuildPlayer loadBuildPlayer(UUID uuid) {
+        offlineSince.remove(uuid);
+        BuildPlayer cached = this.buildPlayers.get(uuid);
+        if (cached != null) {
+            return cached;
+        }
+
+        ConfigurationSection section = playerStorage.loadPlayer(uuid);
+        BuildPlayer buildPlayer;
+        if (section == null) {
+            buildPlayer = new BuildPlayer(uuid, new Settings());
+        } else {
+            buildPlayer = new BuildPlayer(uuid, loadSettings(section, "settings."));
+            buildPlayer.setLogoutLocation(loadLogoutLocation(section, "logout-location"));
+        }
+
+        BuildPlayer previous = this.buildPlayers.putIfAbsent(uuid, buildPlayer);
+        if (previous != null) {
+            return previous;
+        }
+
+        if (section != null) {
+            this.savedStates.put(uuid, buildPlayer.serialize());
+        }
+        return buildPlayer;
     }
 
     public Collection<BuildPlayer> getBuildPlayers() {
@@ -352,28 +395,70 @@ public class PlayerManager {
         XSound.ENTITY_CHICKEN_EGG.play(player);
     }
 
+    /**
+     * Synchronously writes the data of every player whose data changed since it was last saved.
+     */
     public void save() {
-        getBuildPlayers().forEach(buildPlayer -> playersConfig.savePlayer(buildPlayer.getUniqueId(), buildPlayer));
+        queueChanges();
+        playerStorage.flush(false);
     }
 
+    /**
+     * Starts the task which periodically saves changed players and unloads players who have been offline for too long.
+     * <p>
+     * Players themselves are loaded when they log in. If the interval is not positive, players are only saved
+     * when the plugin is disabled.
+     */
     public void load() {
-        FileConfiguration configuration = playersConfig.getFile();
-        ConfigurationSection configurationSection = configuration.getConfigurationSection("players");
-        if (configurationSection == null) {
+        long interval = 20L * configValues.getPlayerSaveInterval();
+        if (interval <= 0) {
             return;
         }
 
-        Set<String> uuids = configurationSection.getKeys(false);
-        uuids.forEach(uuid -> {
-            BuildPlayer buildPlayer = createBuildPlayer(
-                    UUID.fromString(uuid),
-                    loadSettings(configuration, "players." + uuid + ".settings.")
-            );
-            buildPlayer.setLogoutLocation(loadLogoutLocation(configuration, "players." + uuid + ".logout-location"));
-        });
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            queueChanges();
+            unloadOfflinePlayers();
+            playerStorage.flush(true);
+        }, interval, interval);
+    }
+
+    private void queueChanges() {
+        for (BuildPlayer buildPlayer : buildPlayers.values()) {
+            UUID uuid = buildPlayer.getUniqueId();
+            Map<String, Object> state = buildPlayer.serialize();
+            if (!state.equals(savedStates.get(uuid))) {
+                savedStates.put(uuid, state);
+                playerStorage.savePlayer(uuid, state);
+            }
+        }
+    }
+
+    /**
+     * Removes players from memory who have been offline for longer than the configured delay.
+     * Must be called after {@link #queueChanges()} so that no changes are lost.
+     */
+    private void unloadOfflinePlayers() {
+        long now = System.currentTimeMillis();
+        long delay = 1000L * configValues.getPlayerUnloadDelay();
+
+        for (BuildPlayer buildPlayer : buildPlayers.values()) {
+            UUID uuid = buildPlayer.getUniqueId();
+            if (Bukkit.getPlayer(uuid) != null) {
+                offlineSince.remove(uuid);
+                continue;
+            }
+
+            Long since = offlineSince.computeIfAbsent(uuid, key -> now);
+            if (now - since < delay || !offlineSince.remove(uuid, since)) {
+                continue;
+            }
+
+            buildPlayers.remove(uuid, buildPlayer);
+            savedStates.remove(uuid);
+        }
     }
 
-    private Settings loadSettings(FileConfiguration configuration, String pathPrefix) {
+    private Settings loadSettings(ConfigurationSection configuration, String pathPrefix) {
         NavigatorType navigatorType = NavigatorType.valueOf(configuration.getString(pathPrefix + "type"));
         DesignColor glassColor = DesignColor.matchColor(configuration.getString(pathPrefix + "glass"));
         WorldSort worldSort = WorldSort.matchWorldSort(configuration.getString(pathPrefix + "world-sort"));
@@ -397,7 +482,7 @@ public class PlayerManager {
     }
 
     @Nullable
-    private LogoutLocation loadLogoutLocation(FileConfiguration configuration, String pathPrefix) {
+    private LogoutLocation loadLogoutLocation(ConfigurationSection configuration, String pathPrefix) {
         String location = configuration.getString(pathPrefix);
         if (location == null || location.trim().equals("")) {
             return null;
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists the data of all {@link com.eintosti.buildsystem.player.BuildPlayer}s.
+ * <p>
+ * Saving a player only queues the data, which is written once {@link #flush(boolean)} is called.
+ *
+ * @author einTosti
+ */
+public interface PlayerStorage {
+
+    /**
+     * Loads the data of the player with the given unique-id.
+     * <p>
+     * Can safely be called from any thread. Data which has been queued but not yet written is taken into account.
+     *
+     * @param uuid The unique-id of the player
+     * @return The player's data, or {@code null} if no data has been saved yet
+     */
+    @Nullable
+    ConfigurationSection loadPlayer(UUID uuid);
+
+    /**
+     * Queues the serialized data of a player to be written.
+     *
+     * @param uuid The unique-id of the player
+     * @param data The serialized player, which must not be modified afterwards
+     */
+    void savePlayer(UUID uuid, Map<String, Object> data);
+
+    /**
+     * Writes all queued changes.
+     *
+     * @param async Whether the changes should be written asynchronously
+     */
+    void flush(boolean async);
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.config.PlayersConfig;
+import com.eintosti.buildsystem.config.WorldConfig;
+import com.eintosti.buildsystem.storage.sql.SqlPlayerStorage;
+import com.eintosti.buildsystem.storage.sql.SqlWorldStorage;
+import com.eintosti.buildsystem.storage.sql.SqliteDatabase;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.logging.Level;
+
+/**
+ * Creates the {@link WorldStorage} and {@link PlayerStorage} for the {@link StorageType} set in the config.
+ *
+ * @author einTosti
+ */
+public class StorageManager {
+
+    private final BuildSystem plugin;
+
+    private StorageType storageType;
+    private WorldStorage worldStorage;
+    private PlayerStorage playerStorage;
+    private SqliteDatabase database;
+
+    public StorageManager(BuildSystem plugin) {
+        this.plugin = plugin;
+        init(plugin.getConfigValues().getStorageType());
+    }
+
+    private void init(StorageType storageType) {
+        if (storageType == StorageType.SQLITE && initDatabase()) {
+            this.storageType = StorageType.SQLITE;
+            this.worldStorage = new SqlWorldStorage(database);
+            this.playerStorage = new SqlPlayerStorage(database);
+            new StorageMigrator(plugin).migrate(worldStorage, playerStorage);
+            return;
+        }
+
+        PlayersConfig playersConfig = new PlayersConfig(plugin);
+        playersConfig.migrateLegacyFile();
+
+        this.storageType = StorageType.YAML;
+        this.worldStorage = new WorldConfig(plugin);
+        this.playerStorage = playersConfig;
+    }
+
+    private boolean initDatabase() {
+        if (!SqliteDatabase.isDriverAvailable()) {
+            plugin.getLogger().warning("The server does not provide an SQLite driver. Falling back to YAML storage.");
+            return false;
+        }
+
+        try {
+            File dataFolder = plugin.getDataFolder();
+            if (!dataFolder.exists() && !dataFolder.mkdirs()) {
+                throw new SQLException("Unable to create " + dataFolder);
+            }
+            this.database = new SqliteDatabase(new File(dataFolder, "data.db"), plugin.getLogger());
+            return true;
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to open the database. Falling back to YAML storage.", e);
+            return false;
+        }
+    }
+
+    public StorageType getStorageType() {
+        return storageType;
+    }
+
+    public WorldStorage getWorldStorage() {
+        return worldStorage;
+    }
+
+    public PlayerStorage getPlayerStorage() {
+        return playerStorage;
+    }
+
+    /**
+     * Waits for all pending writes and releases the underlying resources.
+     * Must be called after the worlds and players have been saved.
+     */
+    public void close() {
+        if (database != null) {
+            database.close();
+        }
+    }
+}
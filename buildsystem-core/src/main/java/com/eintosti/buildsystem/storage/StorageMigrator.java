@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.config.PlayersConfig;
+import com.eintosti.buildsystem.world.data.WorldStatus;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Moves the data stored in YAML files into another storage.
+ * <p>
+ * Once the data has been migrated, the files are renamed so that the migration only happens once.
+ * Worlds which are already stored are skipped, so that retrying an interrupted migration does not overwrite
+ * newer data. Before the world file is renamed, the migrated worlds are looked up by their creator and status
+ * to make sure that they can be found by the storage's indexes.
+ *
+ * @author einTosti
+ */
+public class StorageMigrator {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final BuildSystem plugin;
+    private final Logger logger;
+
+    public StorageMigrator(BuildSystem plugin) {
+        this.plugin = plugin;
+        this.logger = plugin.getLogger();
+    }
+
+    public void migrate(WorldStorage worldStorage, PlayerStorage playerStorage) {
+        migrateWorlds(worldStorage);
+        migratePlayers(playerStorage);
+    }
+
+    private void migrateWorlds(WorldStorage worldStorage) {
+        File worldsFile = new File(plugin.getDataFolder(), "worlds.yml");
+        if (!worldsFile.exists()) {
+            return;
+        }
+
+        int migrated = 0;
+        int skipped = 0;
+        Map<String, Set<String>> worldsByCreator = new HashMap<>();
+        Map<String, Set<String>> worldsByStatus = new HashMap<>();
+        ConfigurationSection worlds = YamlConfiguration.loadConfiguration(worldsFile).getConfigurationSection("worlds");
+        if (worlds != null) {
+            for (String worldName : worlds.getKeys(false)) {
+                ConfigurationSection section = worlds.getConfigurationSection(worldName);
+                if (section == null) {
+                    continue;
+                }
+
+                if (worldStorage.loadWorld(worldName) != null) {
+                    skipped++;
+                    continue;
+                }
+
+                worldStorage.saveWorld(worldName, section.getValues(false));
+                worldsByCreator.computeIfAbsent(section.getString("creator-id", ""), key -> new HashSet<>()).add(worldName);
+                worldsByStatus.computeIfAbsent(section.getString("status", ""), key -> new HashSet<>()).add(worldName);
+                if (++migrated % BATCH_SIZE == 0) {
+                    worldStorage.flush(false);
+                }
+            }
+        }
+        worldStorage.flush(false);
+
+        if (!verifyWorlds(worldStorage, worldsByCreator, worldsByStatus)) {
+            logger.warning("Not all worlds from " + worldsFile.getName() + " could be found after migrating them, the migration will be retried with the next start");
+            return;
+        }
+
+        rename(worldsFile);
+        logger.info("Migrated " + migrated + " worlds from " + worldsFile.getName() + (skipped > 0 ? " (" + skipped + " were already stored)" : ""));
+    }
+
+    /**
+     * Checks whether the migrated worlds are returned when looking them up by their creator and status.
+     * Worlds with a missing or invalid creator or status cannot be looked up and are not checked.
+     */
+    private boolean verifyWorlds(WorldStorage worldStorage, Map<String, Set<String>> worldsByCreator, Map<String, Set<String>> worldsByStatus) {
+        for (Map.Entry<String, Set<String>> entry : worldsByCreator.entrySet()) {
+            UUID creatorId;
+            try {
+                creatorId = UUID.fromString(entry.getKey());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            if (!worldStorage.loadWorldsByCreator(creatorId).keySet().containsAll(entry.getValue())) {
+                return false;
+            }
+        }
+
+        for (Map.Entry<String, Set<String>> entry : worldsByStatus.entrySet()) {
+            WorldStatus worldStatus;
+            try {
+                worldStatus = WorldStatus.valueOf(entry.getKey());
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+
+            if (!worldStorage.loadWorldsByStatus(worldStatus).keySet().containsAll(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void migratePlayers(PlayerStorage playerStorage) {
+        PlayersConfig playersConfig = new PlayersConfig(plugin);
+        playersConfig.migrateLegacyFile();
+
+        File directory = playersConfig.getDirectory();
+        File[] playerFiles = directory.listFiles((dir, name) -> name.endsWith(".yml"));
+        if (playerFiles == null) {
+            return;
+        }
+
+        int migrated = 0;
+        for (File playerFile : playerFiles) {
+            UUID uuid;
+            try {
+                uuid = UUID.fromString(playerFile.getName().substring(0, playerFile.getName().length() - 4));
+            } catch (IllegalArgumentException e) {
+                logger.warning("Skipping invalid player file: " + playerFile.getName());
+                continue;
+            }
+
+            playerStorage.savePlayer(uuid, YamlConfiguration.loadConfiguration(playerFile).getValues(false));
+            if (++migrated % BATCH_SIZE == 0) {
+                playerStorage.flush(false);
+            }
+        }
+        playerStorage.flush(false);
+
+        rename(directory);
+        logger.info("Migrated " + migrated + " players from " + directory.getName());
+    }
+
+    private void rename(File file) {
+        File target = new File(file.getParentFile(), file.getName() + ".old");
+        if (!file.renameTo(target)) {
+            logger.warning("Unable to rename " + file.getName() + " to " + target.getName() + " after migrating its data");
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage;
+
+/**
+ * @author einTosti
+ */
+public enum StorageType {
+    /**
+     * Stores worlds in {@code worlds.yml} and every player in its own file inside the {@code players} folder.
+     */
+    YAML,
+
+    /**
+     * Stores worlds and players in an embedded SQLite database file.
+     */
+    SQLITE;
+
+    public static StorageType matchStorageType(String type) {
+        if (type == null) {
+            return YAML;
+        }
+
+        for (StorageType value : values()) {
+            if (value.name().equalsIgnoreCase(type)) {
+                return value;
+            }
+        }
+        return YAML;
+    }
+}
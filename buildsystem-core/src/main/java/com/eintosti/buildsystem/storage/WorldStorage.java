@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage;
+
+import com.eintosti.buildsystem.world.data.WorldStatus;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Persists the data of all {@link com.eintosti.buildsystem.world.BuildWorld}s.
+ * <p>
+ * Saving or removing a world only queues the change, which is written once {@link #flush(boolean)} is called.
+ * Lookups already take queued changes into account.
+ * Unless stated otherwise, methods must be called from the main thread.
+ *
+ * @author einTosti
+ */
+public interface WorldStorage {
+
+    /**
+     * Loads the data of every stored world.
+     *
+     * @return The data of each world, keyed by the name of the world
+     */
+    Map<String, ConfigurationSection> loadWorlds();
+
+    /**
+     * Loads the data of a single world.
+     *
+     * @param worldName The name of the world
+     * @return The data of the world, or {@code null} if no world with the given name is stored
+     */
+    @Nullable
+    ConfigurationSection loadWorld(String worldName);
+
+    /**
+     * Loads the data of every world which was created by the given player.
+     *
+     * @param creatorId The unique-id of the creator
+     * @return The data of each world, keyed by the name of the world
+     */
+    Map<String, ConfigurationSection> loadWorldsByCreator(UUID creatorId);
+
+    /**
+     * Loads the data of every world which has the given status.
+     *
+     * @param worldStatus The status
+     * @return The data of each world, keyed by the name of the world
+     */
+    Map<String, ConfigurationSection> loadWorldsByStatus(WorldStatus worldStatus);
+
+    /**
+     * Queues the serialized data of a world to be written.
+     *
+     * @param worldName The name of the world
+     * @param data      The serialized world, which must not be modified afterwards
+     */
+    void saveWorld(String worldName, Map<String, Object> data);
+
+    /**
+     * Queues the removal of the world with the given name.
+     *
+     * @param worldName The name of the world
+     */
+    void removeWorld(String worldName);
+
+    /**
+     * Queues moving the data of a world to a new name. The removal of the old entry and the creation of the new one
+     * are written together.
+     *
+     * @param oldName The previous name of the world
+     * @param newName The new name of the world
+     * @param data    The serialized world, which must not be modified afterwards
+     */
+    void renameWorld(String oldName, String newName, Map<String, Object> data);
+
+    /**
+     * Writes all queued changes.
+     *
+     * @param async Whether the changes should be written asynchronously
+     */
+    void flush(boolean async);
+}
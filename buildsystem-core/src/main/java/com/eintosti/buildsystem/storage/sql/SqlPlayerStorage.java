@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage.sql;
+
+import com.eintosti.buildsystem.storage.PlayerStorage;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stores every player in its own row, so that loading or saving a player does not touch any other player.
+ *
+ * @author einTosti
+ */
+public class SqlPlayerStorage implements PlayerStorage {
+
+    private final SqliteDatabase database;
+    private final Map<UUID, Map<String, Object>> pendingWrites;
+
+    public SqlPlayerStorage(SqliteDatabase database) {
+        this.database = database;
+        this.pendingWrites = new ConcurrentHashMap<>();
+    }
+
+    @Nullable
+    @Override
+    public ConfigurationSection loadPlayer(UUID uuid) {
+        Map<String, Object> pending = pendingWrites.get(uuid);
+        if (pending != null) {
+            return database.fromYaml(SqliteDatabase.toYaml(pending), uuid.toString());
+        }
+
+        String data = database.read(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT data FROM players WHERE uuid = ?")) {
+                statement.setString(1, uuid.toString());
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? resultSet.getString("data") : null;
+                }
+            }
+        });
+        return data != null ? database.fromYaml(data, uuid.toString()) : null;
+    }
+
+    @Override
+    public void savePlayer(UUID uuid, Map<String, Object> data) {
+        pendingWrites.put(uuid, data);
+    }
+
+    @Override
+    public void flush(boolean async) {
+        if (pendingWrites.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, Map<String, Object>> players = new HashMap<>(pendingWrites);
+        database.write(connection -> {
+            try (PreparedStatement upsert = connection.prepareStatement("INSERT OR REPLACE INTO players (uuid, data) VALUES (?, ?)")) {
+                for (Map.Entry<UUID, Map<String, Object>> entry : players.entrySet()) {
+                    upsert.setString(1, entry.getKey().toString());
+                    upsert.setString(2, SqliteDatabase.toYaml(entry.getValue()));
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+            }
+            players.forEach(pendingWrites::remove);
+        }, async);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage.sql;
+
+import com.eintosti.buildsystem.storage.WorldStorage;
+import com.eintosti.buildsystem.world.data.WorldStatus;
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+/**
+ * Stores every world in its own row, so that saving a world does not touch any other world.
+ * Besides the name, the creator and status of a world are kept in their own indexed columns, so that worlds can be
+ * looked up by them without parsing the serialized data of every world.
+ *
+ * @author einTosti
+ */
+public class SqlWorldStorage implements WorldStorage {
+
+    private final SqliteDatabase database;
+
+    /**
+     * Queued rows keyed by the name of the world. A {@code null} row marks a world which is to be removed.
+     */
+    private final Map<String, WorldRow> pendingRows;
+
+    public SqlWorldStorage(SqliteDatabase database) {
+        this.database = database;
+        this.pendingRows = new LinkedHashMap<>();
+    }
+
+    @Override
+    public Map<String, ConfigurationSection> loadWorlds() {
+        Map<String, ConfigurationSection> worlds = database.read(connection -> {
+            Map<String, ConfigurationSection> result = new LinkedHashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT name, data FROM worlds");
+                 ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    ConfigurationSection section = database.fromYaml(resultSet.getString("data"), resultSet.getString("name"));
+                    if (section != null) {
+                        result.put(resultSet.getString("name"), section);
+                    }
+                }
+            }
+            return result;
+        });
+        return worlds != null ? worlds : Collections.emptyMap();
+    }
+
+    @Override
+    @Nullable
+    public ConfigurationSection loadWorld(String worldName) {
+        if (pendingRows.containsKey(worldName)) {
+            WorldRow row = pendingRows.get(worldName);
+            return row != null ? database.fromYaml(row.data, worldName) : null;
+        }
+
+        return database.read(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT data FROM worlds WHERE name = ?")) {
+                statement.setString(1, worldName);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next() ? database.fromYaml(resultSet.getString("data"), worldName) : null;
+                }
+            }
+        });
+    }
+
+    @Override
+    public Map<String, ConfigurationSection> loadWorldsByCreator(UUID creatorId) {
+        String value = creatorId.toString();
+        return queryWorlds("creator_id", value, row -> value.equals(row.creatorId));
+    }
+
+    @Override
+    public Map<String, ConfigurationSection> loadWorldsByStatus(WorldStatus worldStatus) {
+        String value = worldStatus.toString();
+        return queryWorlds("status", value, row -> value.equals(row.status));
+    }
+
+    /**
+     * Queries the worlds whose indexed column has the given value. Since the rows which have not been flushed yet
+     * are not in the database, they are applied on top of the result.
+     *
+     * @param column  The indexed column
+     * @param value   The value of the column
+     * @param matches Whether a queued row has the given value
+     * @return The data of each matching world, keyed by the name of the world
+     */
+    private Map<String, ConfigurationSection> queryWorlds(String column, String value, Predicate<WorldRow> matches) {
+        Map<String, ConfigurationSection> worlds = database.read(connection -> {
+            Map<String, ConfigurationSection> result = new LinkedHashMap<>();
+            try (PreparedStatement statement = connection.prepareStatement("SELECT name, data FROM worlds WHERE " + column + " = ?")) {
+                statement.setString(1, value);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        ConfigurationSection section = database.fromYaml(resultSet.getString("data"), resultSet.getString("name"));
+                        if (section != null) {
+                            result.put(resultSet.getString("name"), section);
+                        }
+                    }
+                }
+            }
+            return result;
+        });
+        if (worlds == null) {
+            worlds = new LinkedHashMap<>();
+        }
+
+        for (Map.Entry<String, WorldRow> entry : pendingRows.entrySet()) {
+            WorldRow row = entry.getValue();
+            worlds.remove(entry.getKey());
+            if (row != null && matches.test(row)) {
+                ConfigurationSection section = database.fromYaml(row.data, entry.getKey());
+                if (section != null) {
+                    worlds.put(entry.getKey(), section);
+                }
+            }
+        }
+        return worlds;
+    }
+
+    @Override
+    public void saveWorld(String worldName, Map<String, Object> data) {
+        Object creatorId = data.get("creator-id");
+        pendingRows.put(worldName, new WorldRow(
+                creatorId != null ? String.valueOf(creatorId) : null,
+                String.valueOf(data.get("status")),
+                SqliteDatabase.toYaml(data)
+        ));
+    }
+
+    @Override
+    public void removeWorld(String worldName) {
+        pendingRows.put(worldName, null);
+    }
+
+    /**
+     * Both rows are queued together, so they are always written within the same transaction.
+     */
+    @Override
+    public void renameWorld(String oldName, String newName, Map<String, Object> data) {
+        removeWorld(oldName);
+        saveWorld(newName, data);
+    }
+
+    @Override
+    public void flush(boolean async) {
+        if (pendingRows.isEmpty()) {
+            return;
+        }
+
+        Map<String, WorldRow> rows = new LinkedHashMap<>(pendingRows);
+        pendingRows.clear();
+
+        database.write(connection -> {
+            try (PreparedStatement upsert = connection.prepareStatement("INSERT OR REPLACE INTO worlds (name, creator_id, status, data) VALUES (?, ?, ?, ?)");
+                 PreparedStatement delete = connection.prepareStatement("DELETE FROM worlds WHERE name = ?")) {
+                for (Map.Entry<String, WorldRow> entry : rows.entrySet()) {
+                    WorldRow row = entry.getValue();
+                    if (row == null) {
+                        delete.setString(1, entry.getKey());
+                        delete.addBatch();
+                        continue;
+                    }
+
+                    upsert.setString(1, entry.getKey());
+                    upsert.setString(2, row.creatorId);
+                    upsert.setString(3, row.status);
+                    upsert.setString(4, row.data);
+                    upsert.addBatch();
+                }
+                delete.executeBatch();
+                upsert.executeBatch();
+            }
+        }, async);
+    }
+
+    private static class WorldRow {
+
+        private final String creatorId;
+        private final String status;
+        private final String data;
+
+        private WorldRow(String creatorId, String status, String data) {
+            this.creatorId = creatorId;
+            this.status = status;
+            this.data = data;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.storage.sql;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Holds the connection to the SQLite database file.
+ * <p>
+ * The SQLite driver is not shaded, but provided by the server itself.
+ * All writes are executed one after another on a single thread, so that they are applied in the order they were
+ * queued in. Reads may happen on any thread and are synchronized with the writes.
+ *
+ * @author einTosti
+ */
+public class SqliteDatabase {
+
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private final Logger logger;
+    private final Connection connection;
+    private final ExecutorService writer;
+
+    public SqliteDatabase(File file, Logger logger) throws SQLException {
+        this.logger = logger;
+        this.connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "BuildSystem-Storage");
+            thread.setDaemon(true);
+            return thread;
+        });
+        createTables();
+    }
+
+    /**
+     * Gets whether the SQLite driver is provided by the server.
+     *
+     * @return {@code true} if the driver is available, otherwise {@code false}
+     */
+    public static boolean isDriverAvailable() {
+        try {
+            Class.forName(DRIVER);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private void createTables() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("PRAGMA journal_mode=WAL");
+            statement.execute("CREATE TABLE IF NOT EXISTS worlds ("
+                    + "name TEXT NOT NULL PRIMARY KEY COLLATE NOCASE, "
+                    + "creator_id TEXT, "
+                    + "status TEXT NOT NULL, "
+                    + "data TEXT NOT NULL)");
+            statement.execute("CREATE INDEX IF NOT EXISTS worlds_creator_id ON worlds (creator_id)");
+            statement.execute("CREATE INDEX IF NOT EXISTS worlds_status ON worlds (status)");
+            statement.execute("CREATE TABLE IF NOT EXISTS players ("
+                    + "uuid TEXT NOT NULL PRIMARY KEY, "
+                    + "data TEXT NOT NULL)");
+        }
+    }
+
+    /**
+     * Runs a query while no write is in progress.
+     *
+     * @param query The query to run
+     * @param <T>   The result type
+     * @return The result of the query, or {@code null} if the query failed
+     */
+    @Nullable
+    public synchronized <T> T read(Query<T> query) {
+        try {
+            return query.run(connection);
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Unable to read from the database", e);
+            return null;
+        }
+    }
+
+    /**
+     * Runs the given update inside a transaction on the writer thread.
+     *
+     * @param update The update to run
+     * @param async  If {@code false}, waits until the update and all updates queued before it have been applied
+     */
+    public void write(Update update, boolean async) {
+        if (writer.isShutdown()) {
+            applyUpdate(update);
+            return;
+        }
+
+        if (async) {
+            writer.execute(() -> applyUpdate(update));
+            return;
+        }
+
+        try {
+            writer.submit(() -> applyUpdate(update)).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.log(Level.SEVERE, "Unable to write to the database", e.getCause());
+        }
+    }
+
+    private synchronized void applyUpdate(Update update) {
+        try {
+            connection.setAutoCommit(false);
+            try {
+                update.run(connection);
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            logger.log(Level.SEVERE, "Unable to write to the database", e);
+        }
+    }
+
+    /**
+     * Waits for all queued writes to finish and closes the connection.
+     */
+    public void close() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warning("Timed out while waiting for the database writes to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        synchronized (this) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                logger.log(Level.SEVERE, "Unable to close the database", e);
+            }
+        }
+    }
+
+    static String toYaml(Map<String, Object> data) {
+        YamlConfiguration configuration = new YamlConfiguration();
+        data.forEach(configuration::set);
+        return configuration.saveToString();
+    }
+
+    /**
+     * Parses the serialized data of a row.
+     *
+     * @param data The serialized data
+     * @param key  The key of the row, which is logged if the data is invalid
+     * @return The parsed data, or {@code null} if the data is invalid
+     */
+    @Nullable
+    ConfigurationSection fromYaml(String data, String key) {
+        YamlConfiguration configuration = new YamlConfiguration();
+        try {
+            configuration.loadFromString(data);
+        } catch (InvalidConfigurationException e) {
+            logger.log(Level.WARNING, "Unable to parse the stored data of \"" + key + "\"", e);
+            return null;
+        }
+        return configuration;
+    }
+
+    @FunctionalInterface
+    public interface Query<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Update {
+        void run(Connection connection) throws SQLException;
+    }
+}
@@ -9,10 +9,8 @@ package com.eintosti.buildsystem.tabcomplete;
 
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.command.subcommand.Argument;
-import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.WorldManager;
 import com.eintosti.buildsystem.world.generator.Generator;
-import org.bukkit.Bukkit;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
@@ -20,16 +18,18 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nullable;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 /**
  * @author einTosti
  */
 public class WorldsTabComplete extends ArgumentSorter implements TabCompleter {
 
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9/_-]*");
+
     private final BuildSystem plugin;
     private final WorldManager worldManager;
 
@@ -88,35 +88,18 @@ public class WorldsTabComplete extends ArgumentSorter implements TabCompleter {
                                 .forEach(world -> addArgument(args[1], world.getName(), arrayList));
                         break;
 
-                    case "import":
-                        String[] directories = Bukkit.getWorldContainer().list((dir, name) -> {
-                            for (String charString : name.split("")) {
-                                if (charString.matches("[^A-Za-z0-9/_-]")) {
-                                    return false;
-                                }
-                            }
-
-                            File worldFolder = new File(dir, name);
-                            if (!worldFolder.isDirectory()) {
-                                return false;
-                            }
-
-                            File levelFile = new File(dir + File.separator + name + File.separator + "level.dat");
-                            if (!levelFile.exists()) {
-                                return false;
+                    case "importall":
+                        if (player.hasPermission(WorldsArgument.IMPORT_ALL.getPermission()) && worldManager.getImportJob() != null) {
+                            for (String action : new String[]{"pause", "resume", "cancel"}) {
+                                addArgument(args[1], action, arrayList);
                             }
-
-                            BuildWorld buildWorld = worldManager.getBuildWorld(name);
-                            return buildWorld == null;
-                        });
-
-                        if (directories == null || directories.length == 0) {
-                            return arrayList;
                         }
+                        break;
 
-                        for (String projectName : directories) {
-                            addArgument(args[1], projectName, arrayList);
-                        }
+                    case "import":
+                        worldManager.getImportableWorldIndex().getImportableWorlds(args[1]).stream()
+                                .filter(name -> VALID_NAME.matcher(name).matches())
+                                .forEach(arrayList::add);
                         break;
                 }
                 return arrayList;
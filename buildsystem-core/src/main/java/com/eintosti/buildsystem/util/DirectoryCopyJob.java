@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.util;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copies a world directory off the main thread. The directory tree is walked first, after which all files
+ * are copied in parallel on the given {@link Executor}.
+ * <p>
+ * If the copy fails, everything which has already been copied is deleted again.
+ * <p>
+ * Optionally, region files can be cloned using {@link FileUtils#reflink(Path, Path)}, which makes the copy almost
+ * instant and only takes up disk space once a region is modified. If the filesystem does not support it,
+ * the files are copied regularly. Reflinks are only given up on for the rest of the copy if none has succeeded yet,
+ * so that a single failing file does not slow down the copy of all other files.
+ *
+ * @author einTosti
+ */
+public class DirectoryCopyJob {
+
+    private final Path source;
+    private final Path target;
+    private final boolean copyOnWrite;
+    private final AtomicLong copiedBytes;
+    private final AtomicBoolean reflinkSupported;
+    private final AtomicBoolean reflinkSucceeded;
+
+    private volatile long totalBytes;
+
+    public DirectoryCopyJob(Path source, Path target, boolean copyOnWrite) {
+        this.source = source;
+        this.target = target;
+        this.copyOnWrite = copyOnWrite;
+        this.copiedBytes = new AtomicLong();
+        this.reflinkSupported = new AtomicBoolean(true);
+        this.reflinkSucceeded = new AtomicBoolean();
+    }
+
+    /**
+     * Starts copying the directory.
+     *
+     * @param executor The executor on which the directory is walked and the files are copied
+     * @return A future which completes once all files have been copied
+     */
+    public CompletableFuture<Void> start(Executor executor) {
+        return CompletableFuture.supplyAsync(this::walk, executor)
+                .thenCompose(files -> {
+                    List<CompletableFuture<Void>> copies = new ArrayList<>(files.size());
+                    for (Path file : files) {
+                        copies.add(CompletableFuture.runAsync(() -> copyFile(file), executor));
+                    }
+                    return CompletableFuture.allOf(copies.toArray(new CompletableFuture[0]));
+                })
+                .whenComplete((result, throwable) -> {
+                    if (throwable != null) {
+                        FileUtils.deleteDirectory(target.toFile());
+                    }
+                });
+    }
+
+    /**
+     * Gets the progress of the copy.
+     *
+     * @return The share of bytes which have already been copied, between {@code 0} and {@code 1}
+     */
+    public double getProgress() {
+        long total = totalBytes;
+        return total == 0 ? 0 : (double) copiedBytes.get() / total;
+    }
+
+    /**
+     * Creates all directories of the target and collects the files which have to be copied.
+     */
+    private List<Path> walk() {
+        List<Path> files = new ArrayList<>();
+        try {
+            Files.walkFileTree(source, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(target.resolve(source.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!FileUtils.isIgnored(file.getFileName().toString())) {
+                        files.add(file);
+                        totalBytes += attrs.size();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return files;
+    }
+
+    private void copyFile(Path file) {
+        Path targetFile = target.resolve(source.relativize(file));
+        try {
+            if (!cloneRegionFile(file, targetFile)) {
+                Files.copy(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            copiedBytes.addAndGet(Files.size(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean cloneRegionFile(Path file, Path targetFile) {
+        if (!copyOnWrite || !reflinkSupported.get() || !file.getFileName().toString().endsWith(".mca")) {
+            return false;
+        }
+
+        if (FileUtils.reflink(file, targetFile)) {
+            reflinkSucceeded.set(true);
+            return true;
+        }
+
+        // Unless a previous file could be cloned, the filesystem does not support reflinks,
+        // so there is no point in trying it for the remaining files
+        if (!reflinkSucceeded.get()) {
+            reflinkSupported.set(false);
+        }
+        return false;
+    }
+}
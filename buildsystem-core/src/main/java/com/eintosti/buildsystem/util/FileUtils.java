@@ -12,74 +12,144 @@ import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.nio.file.attribute.FileTime;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * @author einTosti
  */
 public class FileUtils {
 
+    private static final Set<String> IGNORED_FILES = Sets.newHashSet("uid.dat", "session.lock");
+    private static final long REFLINK_TIMEOUT = 30;
+
     /**
-     * Copies a file to a new location preserving the file date.
+     * Copies a file or directory to a new location.
      *
      * @param source An existing file to copy, must not be {@code null}
      * @param target The new file, must not be {@code null}
      */
     public static void copy(@NotNull File source, @NotNull File target) {
+        Path sourcePath = source.toPath();
+        Path targetPath = target.toPath();
         try {
-            Set<String> ignore = Sets.newHashSet("uid.dat", "session.lock");
-            if (ignore.contains(source.getName())) {
-                return;
-            }
-
-            if (source.isDirectory()) {
-                if (!target.exists() && !target.mkdirs()) {
-                    throw new IOException("Couldn't create directory: " + target.getName());
+            Files.walkFileTree(sourcePath, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    Files.createDirectories(targetPath.resolve(sourcePath.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
                 }
 
-                for (String fileName : source.list()) {
-                    if (ignore.contains(fileName)) {
-                        continue;
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (!isIgnored(file.getFileName().toString())) {
+                        Files.copy(file, targetPath.resolve(sourcePath.relativize(file)), StandardCopyOption.REPLACE_EXISTING);
                     }
-
-                    File sourceFile = new File(source, fileName);
-                    File targetFile = new File(target, fileName);
-                    copy(sourceFile, targetFile);
-                }
-            } else {
-                InputStream inputStream = Files.newInputStream(source.toPath());
-                OutputStream outputStream = Files.newOutputStream(target.toPath());
-                byte[] buffer = new byte[1024];
-                int length;
-                while ((length = inputStream.read(buffer)) > 0) {
-                    outputStream.write(buffer, 0, length);
+                    return FileVisitResult.CONTINUE;
                 }
-                inputStream.close();
-                outputStream.close();
-            }
+            });
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
     /**
-     * Deletes a directory recursively.
+     * Clones a file using a reflink, i.e. a copy which shares its data with the source until either of them is modified.
+     * This requires GNU coreutils' {@code cp} and only works on filesystems which support copy-on-write, such as Btrfs or XFS.
+     * <p>
+     * Hard links cannot be used instead, since the server opens region files for writing as soon as a chunk is loaded,
+     * which would modify the source as well.
      *
-     * @param directory Directory to delete
+     * @param source The file to clone
+     * @param target The clone, which must not exist yet
+     * @return {@code true} if the file was cloned, {@code false} if reflinks are not supported or cloning the file failed
      */
-    public static void deleteDirectory(File directory) {
-        File[] allContents = directory.listFiles();
-        if (allContents != null) {
-            for (File file : allContents) {
-                deleteDirectory(file);
+    public static boolean reflink(Path source, Path target) {
+        Process process = null;
+        try {
+            process = new ProcessBuilder("cp", "--reflink=always", source.toString(), target.toString())
+                    .redirectErrorStream(true)
+                    .start();
+            // A reflink only copies metadata, so a process which takes this long is stuck, e.g. on a network filesystem
+            if (!process.waitFor(REFLINK_TIMEOUT, TimeUnit.SECONDS)) {
+                return false;
             }
+            return process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            if (process != null) {
+                // Kills the process if it is still running and closes its streams either way
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    /**
+     * Gets whether a file must not be copied along with a world, since the server expects it to be unique per world.
+     *
+     * @param fileName The name of the file
+     * @return {@code true} if the file must not be copied, otherwise {@code false}
+     */
+    public static boolean isIgnored(String fileName) {
+        return IGNORED_FILES.contains(fileName);
+    }
+
+    /**
+     * Deletes a directory recursively. Files which cannot be deleted are skipped.
+     *
+     * @param directory Directory to delete
+     * @return {@code true} if the directory has been deleted completely, otherwise {@code false}
+     */
+    public static boolean deleteDirectory(File directory) {
+        if (!directory.exists()) {
+            return true;
+        }
+
+        AtomicBoolean deleted = new AtomicBoolean(true);
+        try {
+            Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    delete(file);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) {
+                    deleted.set(false);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+                    delete(dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                private void delete(Path path) {
+                    try {
+                        Files.delete(path);
+                    } catch (IOException e) {
+                        deleted.set(false);
+                    }
+                }
+            });
+        } catch (IOException e) {
+            return false;
         }
-        directory.delete();
+        return deleted.get();
     }
 
     /**
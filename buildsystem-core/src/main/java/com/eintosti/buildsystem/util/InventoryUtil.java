@@ -22,7 +22,6 @@ import com.eintosti.buildsystem.settings.Settings;
 import com.eintosti.buildsystem.settings.SettingsManager;
 import com.eintosti.buildsystem.tabcomplete.WorldsTabComplete;
 import com.eintosti.buildsystem.util.external.ItemSkulls;
-import com.eintosti.buildsystem.util.external.StringUtils;
 import com.eintosti.buildsystem.world.BuildWorld;
 import com.eintosti.buildsystem.world.Builder;
 import com.eintosti.buildsystem.world.WorldManager;
@@ -45,8 +44,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -235,49 +233,56 @@ public class InventoryUtil {
         return true;
     }
 
+    /**
+     * Add the icon of a {@link BuildWorld} to an inventory.
+     * <p>
+     * Icons are only rendered once per variant and cached by the world until a property shown by them changes.
+     *
+     * @param player     The player whom the icon will be shown to
+     * @param inventory  The inventory to add the icon to
+     * @param position   The slot of the icon
+     * @param buildWorld The world the icon represents
+     * @see BuildWorld#invalidateIcon()
+     */
     public void addWorldItem(Player player, Inventory inventory, int position, BuildWorld buildWorld) {
+        boolean edit = plugin.getWorldManager().isPermitted(player, WorldsTabComplete.WorldsArgument.EDIT.getPermission(), buildWorld.getName());
+        ItemStack icon = buildWorld.getCachedIcon(edit);
+        if (icon == null) {
+            icon = renderWorldItem(buildWorld, edit);
+            buildWorld.cacheIcon(edit, icon);
+        }
+        inventory.setItem(position, icon.clone());
+    }
+
+    private ItemStack renderWorldItem(BuildWorld buildWorld, boolean edit) {
         String worldName = buildWorld.getName();
         String displayName = Messages.getString("world_item_title", new AbstractMap.SimpleEntry<>("%world%", worldName));
 
         if (buildWorld.getMaterial() == XMaterial.PLAYER_HEAD) {
-            addSkull(inventory, position, displayName, worldName, getLore(player, buildWorld));
+            return getSkull(displayName, worldName, getLore(buildWorld, edit));
         } else {
-            addItemStack(inventory, position, buildWorld.getMaterial(), displayName, getLore(player, buildWorld));
+            return getItemStack(buildWorld.getMaterial(), displayName, getLore(buildWorld, edit));
         }
     }
 
     /**
      * Manage clicking in a {@link FilteredWorldsInventory}.
      * <p>
-     * If the clicked item is the icon of a {@link BuildWorld}, the click is managed by {@link InventoryUtil#manageWorldItemClick(InventoryClickEvent, Player, ItemMeta, BuildWorld)}.
+     * If the clicked slot shows a {@link BuildWorld}, the click is managed by {@link InventoryUtil#manageWorldItemClick(InventoryClickEvent, Player, BuildWorld)}.
      * Otherwise, the {@link NavigatorInventory} is opened if the glass pane at the bottom of the inventory is clicked.
      *
-     * @param event     The click event object to modify
-     * @param player    The player who clicked
-     * @param itemStack The clicked item
+     * @param event      The click event object to modify
+     * @param player     The player who clicked
+     * @param itemStack  The clicked item
+     * @param buildWorld The world which is shown in the clicked slot, if any
      */
-    public void manageInventoryClick(InventoryClickEvent event, Player player, ItemStack itemStack) {
-        if (itemStack == null || itemStack.getItemMeta() == null) {
+    public void manageInventoryClick(InventoryClickEvent event, Player player, ItemStack itemStack, @Nullable BuildWorld buildWorld) {
+        if (buildWorld != null) {
+            manageWorldItemClick(event, player, buildWorld);
             return;
         }
 
         int slot = event.getSlot();
-        ItemMeta itemMeta = itemStack.getItemMeta();
-        String displayName = itemMeta.getDisplayName();
-
-        if (slot == 22 &&
-                displayName.equals(Messages.getString("world_navigator_no_worlds"))
-                || displayName.equals(Messages.getString("archive_no_worlds"))
-                || displayName.equals(Messages.getString("private_no_worlds"))) {
-            return;
-        }
-
-        if (slot >= 9 && slot <= 44) {
-            BuildWorld buildWorld = plugin.getWorldManager().getBuildWorld(getWorldName(displayName));
-            manageWorldItemClick(event, player, itemMeta, buildWorld);
-            return;
-        }
-
         if (slot >= 45 && slot <= 53 && itemStack.getType() != XMaterial.PLAYER_HEAD.parseMaterial()) {
             XSound.BLOCK_CHEST_OPEN.play(player);
             plugin.getNavigatorInventory().openInventory(player);
@@ -297,12 +302,11 @@ public class InventoryUtil {
      *
      * @param event      The click event to modify
      * @param player     The player who clicked
-     * @param itemMeta   The item meta of the clicked item
      * @param buildWorld The world represents by the clicked item
      */
-    private void manageWorldItemClick(InventoryClickEvent event, Player player, ItemMeta itemMeta, BuildWorld buildWorld) {
+    private void manageWorldItemClick(InventoryClickEvent event, Player player, BuildWorld buildWorld) {
         if (event.isLeftClick() || !plugin.getWorldManager().isPermitted(player, WorldsTabComplete.WorldsArgument.EDIT.getPermission(), buildWorld.getName())) {
-            performNonEditClick(player, itemMeta);
+            performNonEditClick(player, buildWorld);
             return;
         }
 
@@ -320,82 +324,36 @@ public class InventoryUtil {
     /**
      * A "non-edit click" is a click (i.e. a right click) which does not open the {@link EditInventory}.
      *
-     * @param player   The player who clicked
-     * @param itemMeta The item meta of the clicked item
+     * @param player     The player who clicked
+     * @param buildWorld The world represented by the clicked item
      */
-    private void performNonEditClick(Player player, ItemMeta itemMeta) {
+    private void performNonEditClick(Player player, BuildWorld buildWorld) {
         playerManager.closeNavigator(player);
-        teleport(player, getWorldName(itemMeta.getDisplayName()));
-    }
-
-    private void teleport(Player player, String worldName) {
-        WorldManager worldManager = plugin.getWorldManager();
-        BuildWorld buildWorld = worldManager.getBuildWorld(worldName);
-        if (buildWorld == null) {
-            return;
-        }
-        worldManager.teleport(player, buildWorld);
-    }
-
-    /**
-     * Parse the name of a world from the given input.
-     *
-     * @param input The string to parse the name from
-     * @return The name of the world
-     */
-    private String getWorldName(String input) {
-        String template = Messages.getString("world_item_title", new AbstractMap.SimpleEntry<>("%world%", ""));
-        return StringUtils.difference(template, input);
+        plugin.getWorldManager().teleport(player, buildWorld);
     }
 
     /**
-     * Sort the list of worlds to match the given {@link WorldSort}.
+     * Get the worlds in the order of the given {@link WorldSort}.
+     * <p>
+     * The order is maintained by the {@link com.eintosti.buildsystem.world.BuildWorldRegistry}, so no sorting is
+     * needed here.
      *
      * @param worldManager The world manager object
      * @param settings     The settings that provide the sorting method
-     * @return The list of sorted worlds
+     * @return The sorted worlds
      */
-    public List<BuildWorld> sortWorlds(WorldManager worldManager, Settings settings) {
-        List<BuildWorld> buildWorlds = new ArrayList<>(worldManager.getBuildWorlds());
-        switch (settings.getWorldSort()) {
-            default: // NAME_A_TO_Z
-                buildWorlds.sort(Comparator.comparing(worldA -> worldA.getName().toLowerCase()));
-                break;
-            case NAME_Z_TO_A:
-                buildWorlds.sort(Comparator.comparing(worldA -> worldA.getName().toLowerCase()));
-                Collections.reverse(buildWorlds);
-                break;
-            case PROJECT_A_TO_Z:
-                buildWorlds.sort(Comparator.comparing(worldA -> worldA.getProject().toLowerCase()));
-                break;
-            case PROJECT_Z_TO_A:
-                buildWorlds.sort(Comparator.comparing(worldA -> worldA.getProject().toLowerCase()));
-                Collections.reverse(buildWorlds);
-                break;
-            case STATUS_NOT_STARTED:
-                buildWorlds.sort(new WorldStatusComparator());
-                break;
-            case STATUS_FINISHED:
-                buildWorlds.sort(new WorldStatusComparator().reversed());
-                break;
-            case NEWEST_FIRST:
-                buildWorlds.sort(new WorldCreationComparator().reversed());
-                break;
-            case OLDEST_FIRST:
-                buildWorlds.sort(new WorldCreationComparator());
-                break;
-        }
-        return buildWorlds;
+    public Collection<BuildWorld> sortWorlds(WorldManager worldManager, Settings settings) {
+        return worldManager.getWorldRegistry().getWorlds(settings.getWorldSort());
     }
 
     /**
      * Get the lore which will be displayed in an inventory.
      *
-     * @param player     The player whom the lore will be shown to
      * @param buildWorld The world the lore displays information about
+     * @param edit       Whether the lore is shown to a player who is permitted to edit the world
      * @return The formatted lore
      */
-    private List<String> getLore(Player player, BuildWorld buildWorld) {
+    private List<String> getLore(BuildWorld buildWorld, boolean edit) {
         Map.Entry<String, Object>[] placeholders = new Map.Entry[]{
                 new AbstractMap.SimpleEntry("%status%", buildWorld.getStatus().getName()),
                 new AbstractMap.SimpleEntry("%project%", buildWorld.getProject()),
@@ -403,7 +361,7 @@ public class InventoryUtil {
                 new AbstractMap.SimpleEntry("%creator%", buildWorld.hasCreator() ? buildWorld.getCreator() : "-"),
                 new AbstractMap.SimpleEntry("%creation%", buildWorld.getFormattedCreationDate()),
         };
-        List<String> messageList = plugin.getWorldManager().isPermitted(player, WorldsTabComplete.WorldsArgument.EDIT.getPermission(), buildWorld.getName()) ?
+        List<String> messageList = edit ?
                 Messages.getStringList("world_item_lore_edit", placeholders) : Messages.getStringList("world_item_lore_normal", placeholders);
 
         // Replace %builders% placeholder
@@ -804,20 +762,4 @@ public class InventoryUtil {
             }
         }
     }
-
-    private static class WorldCreationComparator implements Comparator<BuildWorld> {
-
-        @Override
-        public int compare(BuildWorld buildWorld1, BuildWorld buildWorld2) {
-            return Long.compare(buildWorld1.getCreationDate(), buildWorld2.getCreationDate());
-        }
-    }
-
-    private static class WorldStatusComparator implements Comparator<BuildWorld> {
-
-        @Override
-        public int compare(BuildWorld buildWorld1, BuildWorld buildWorld2) {
-            return Integer.compare(buildWorld1.getStatus().getStage(), buildWorld2.getStatus().getStage());
-        }
-    }
-}
\ No newline at end of file
+}
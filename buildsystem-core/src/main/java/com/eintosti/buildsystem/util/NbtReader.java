@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.util;
+
+import java.io.BufferedInputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * A minimal reader for files in Minecraft's NBT format, such as a world's {@code level.dat}.
+ * <p>
+ * Compounds are read as {@link Map}s and lists as {@link List}s, while all other tags are read as their
+ * corresponding Java type. The reader does not depend on server internals, so it can be used on any thread.
+ *
+ * @author einTosti
+ */
+public class NbtReader {
+
+    private static final int TAG_END = 0;
+    private static final int TAG_BYTE = 1;
+    private static final int TAG_SHORT = 2;
+    private static final int TAG_INT = 3;
+    private static final int TAG_LONG = 4;
+    private static final int TAG_FLOAT = 5;
+    private static final int TAG_DOUBLE = 6;
+    private static final int TAG_BYTE_ARRAY = 7;
+    private static final int TAG_STRING = 8;
+    private static final int TAG_LIST = 9;
+    private static final int TAG_COMPOUND = 10;
+    private static final int TAG_INT_ARRAY = 11;
+    private static final int TAG_LONG_ARRAY = 12;
+
+    /**
+     * The maximum amount of bytes the payloads of a file may take up, so that a corrupt file which claims to contain
+     * huge arrays or lists cannot exhaust the memory. A {@code level.dat} is usually only a few kilobytes large.
+     */
+    private static final long MAX_SIZE = 16L * 1024 * 1024;
+    private static final int MAX_DEPTH = 512;
+
+    private final DataInput input;
+    private long remainingSize;
+
+    private NbtReader(DataInput input) {
+        this.input = input;
+        this.remainingSize = MAX_SIZE;
+    }
+
+    /**
+     * Reads a gzip compressed NBT file.
+     *
+     * @param file The file to read
+     * @return The root compound of the file
+     * @throws IOException If the file cannot be read or is not a valid NBT file
+     */
+    public static Map<String, Object> readCompressed(Path file) throws IOException {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(new GZIPInputStream(Files.newInputStream(file))))) {
+            if (input.readByte() != TAG_COMPOUND) {
+                throw new IOException("Root tag of " + file.getFileName() + " is not a compound");
+            }
+            input.readUTF();
+            return new NbtReader(input).readCompound(0);
+        }
+    }
+
+    private Map<String, Object> readCompound(int depth) throws IOException {
+        checkDepth(depth);
+        Map<String, Object> compound = new HashMap<>();
+        int type;
+        while ((type = input.readByte()) != TAG_END) {
+            String name = input.readUTF();
+            compound.put(name, readPayload(type, depth));
+        }
+        return compound;
+    }
+
+    private Object readPayload(int type, int depth) throws IOException {
+        switch (type) {
+            case TAG_BYTE:
+                return input.readByte();
+            case TAG_SHORT:
+                return input.readShort();
+            case TAG_INT:
+                return input.readInt();
+            case TAG_LONG:
+                return input.readLong();
+            case TAG_FLOAT:
+                return input.readFloat();
+            case TAG_DOUBLE:
+                return input.readDouble();
+            case TAG_BYTE_ARRAY: {
+                byte[] array = new byte[readLength(Byte.BYTES)];
+                input.readFully(array);
+                return array;
+            }
+            case TAG_STRING:
+                return input.readUTF();
+            case TAG_LIST: {
+                int elementType = input.readByte();
+                int length = readLength(Integer.BYTES);
+                checkDepth(depth + 1);
+                List<Object> list = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    list.add(readPayload(elementType, depth + 1));
+                }
+                return list;
+            }
+            case TAG_COMPOUND:
+                return readCompound(depth + 1);
+            case TAG_INT_ARRAY: {
+                int[] array = new int[readLength(Integer.BYTES)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readInt();
+                }
+                return array;
+            }
+            case TAG_LONG_ARRAY: {
+                long[] array = new long[readLength(Long.BYTES)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = input.readLong();
+                }
+                return array;
+            }
+            default:
+                throw new IOException("Unknown tag type " + type);
+        }
+    }
+
+    /**
+     * Reads the length of an array or list and accounts for the memory its elements take up.
+     *
+     * @param elementSize The minimum amount of bytes a single element takes up
+     * @return The length
+     * @throws IOException If the length is negative or the file would exceed {@link #MAX_SIZE}
+     */
+    private int readLength(int elementSize) throws IOException {
+        int length = input.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length " + length);
+        }
+
+        long size = (long) length * elementSize;
+        if (size > remainingSize) {
+            throw new IOException("Length " + length + " exceeds the maximum size of " + MAX_SIZE + " bytes");
+        }
+        remainingSize -= size;
+        return length;
+    }
+
+    private void checkDepth(int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("Tags are nested deeper than " + MAX_DEPTH + " levels");
+        }
+    }
+}
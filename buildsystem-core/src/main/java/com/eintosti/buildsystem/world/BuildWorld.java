@@ -16,29 +16,36 @@ import com.eintosti.buildsystem.event.world.BuildWorldLoadEvent;
 import com.eintosti.buildsystem.event.world.BuildWorldUnloadEvent;
 import com.eintosti.buildsystem.util.InventoryUtil;
 import com.eintosti.buildsystem.util.UUIDFetcher;
+import com.eintosti.buildsystem.world.data.Role;
 import com.eintosti.buildsystem.world.data.WorldStatus;
 import com.eintosti.buildsystem.world.data.WorldType;
 import com.eintosti.buildsystem.world.generator.CustomGenerator;
 import org.bukkit.Bukkit;
-import org.bukkit.Chunk;
 import org.bukkit.Difficulty;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.configuration.serialization.ConfigurationSerializable;
 import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -49,7 +56,7 @@ public class BuildWorld implements ConfigurationSerializable {
     private final BuildSystem plugin;
     private final ConfigValues configValues;
     private final WorldType worldType;
-    private final List<Builder> builders;
+    private final Map<UUID, Builder> builders;
     private final long creationDate;
     private final CustomGenerator customGenerator;
 
@@ -62,6 +69,7 @@ public class BuildWorld implements ConfigurationSerializable {
     private String project;
     private String permission;
     private String customSpawn;
+    private volatile RoleTable roleTable;
     private boolean physics;
     private boolean explosions;
     private boolean mobAI;
@@ -71,9 +79,9 @@ public class BuildWorld implements ConfigurationSerializable {
     private boolean buildersEnabled;
     private Difficulty difficulty;
 
-    private long seconds;
     private boolean loaded;
-    private BukkitTask unloadTask;
+    private ItemStack normalIcon;
+    private ItemStack editIcon;
 
     public BuildWorld(
             String name,
@@ -96,7 +104,8 @@ public class BuildWorld implements ConfigurationSerializable {
         this.project = "-";
         this.permission = configValues.getDefaultPermission(privateWorld).replace("%world%", name);
         this.customSpawn = null;
-        this.builders = new ArrayList<>();
+        this.builders = new LinkedHashMap<>();
+        this.roleTable = new RoleTable(creatorId, this.builders.keySet());
         this.creationDate = creationDate;
 
         this.physics = configValues.isWorldPhysics();
@@ -189,7 +198,9 @@ public class BuildWorld implements ConfigurationSerializable {
         this.blockInteractions = blockInteractions;
         this.buildersEnabled = buildersEnabled;
         this.difficulty = difficulty;
-        this.builders = builders;
+        this.builders = new LinkedHashMap<>();
+        builders.forEach(builder -> this.builders.put(builder.getUuid(), builder));
+        this.roleTable = new RoleTable(creatorId, this.builders.keySet());
         this.customGenerator = customGenerator;
 
         manageUnload();
@@ -215,11 +226,14 @@ public class BuildWorld implements ConfigurationSerializable {
 
     /**
      * Set the name of the world.
+     * <p>
+     * Registered worlds should be renamed using {@link BuildWorldRegistry#rename(BuildWorld, String)} instead.
      *
      * @param name The name to set to
      */
     public void setName(String name) {
         this.name = name;
+        invalidateIcon();
     }
 
     /**
@@ -250,6 +264,9 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setCreator(String creator) {
         this.creator = creator;
+        getRegistry().updateCreatorName(this);
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -270,7 +287,12 @@ public class BuildWorld implements ConfigurationSerializable {
      * @param creatorId The unique-id of the creator
      */
     public void setCreatorId(UUID creatorId) {
+        UUID previousCreatorId = this.creatorId;
         this.creatorId = creatorId;
+        invalidateRoles();
+        invalidateIcon();
+        getRegistry().updateCreator(this, previousCreatorId);
+        markDirty();
     }
 
     /**
@@ -329,6 +351,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setPrivate(boolean privateWorld) {
         this.privateWorld = privateWorld;
+        getRegistry().updateVisibility(this);
+        markDirty();
     }
 
     /**
@@ -347,6 +371,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setMaterial(XMaterial material) {
         this.material = material;
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -364,7 +390,11 @@ public class BuildWorld implements ConfigurationSerializable {
      * @param worldStatus The status to switch to
      */
     public void setStatus(WorldStatus worldStatus) {
+        WorldStatus previousStatus = this.worldStatus;
         this.worldStatus = worldStatus;
+        getRegistry().updateStatus(this, previousStatus);
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -383,6 +413,9 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setProject(String project) {
         this.project = project;
+        getRegistry().updateProject(this);
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -401,6 +434,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setPermission(String permission) {
         this.permission = permission;
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -448,6 +483,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setPhysics(boolean physics) {
         this.physics = physics;
+        plugin.getListenerGate().update();
+        markDirty();
     }
 
     /**
@@ -466,6 +503,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setExplosions(boolean explosions) {
         this.explosions = explosions;
+        plugin.getListenerGate().update();
+        markDirty();
     }
 
     /**
@@ -484,6 +523,8 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setMobAI(boolean mobAI) {
         this.mobAI = mobAI;
+        plugin.getListenerGate().update();
+        markDirty();
     }
 
     /**
@@ -504,6 +545,7 @@ public class BuildWorld implements ConfigurationSerializable {
     public void setCustomSpawn(Location customSpawn) {
         this.customSpawn = customSpawn.getX() + ";" + customSpawn.getY() + ";" + customSpawn.getZ() + ";" +
                 customSpawn.getYaw() + ";" + customSpawn.getPitch();
+        markDirty();
     }
 
     /**
@@ -511,6 +553,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void removeCustomSpawn() {
         this.customSpawn = null;
+        markDirty();
     }
 
     /**
@@ -529,6 +572,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setBlockBreaking(boolean blockBreaking) {
         this.blockBreaking = blockBreaking;
+        markDirty();
     }
 
     /**
@@ -547,6 +591,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setBlockPlacement(boolean blockPlacement) {
         this.blockPlacement = blockPlacement;
+        markDirty();
     }
 
     /**
@@ -565,6 +610,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setBlockInteractions(boolean blockInteractions) {
         this.blockInteractions = blockInteractions;
+        markDirty();
     }
 
     /**
@@ -615,6 +661,7 @@ public class BuildWorld implements ConfigurationSerializable {
                 this.difficulty = Difficulty.PEACEFUL;
                 break;
         }
+        markDirty();
     }
 
     /**
@@ -627,12 +674,12 @@ public class BuildWorld implements ConfigurationSerializable {
     }
 
     /**
-     * Get a list of all builders who can modify the world.
+     * Get all builders who can modify the world, in the order they were added.
      *
-     * @return the list of all builders
+     * @return An unmodifiable view of all builders
      */
-    public List<Builder> getBuilders() {
-        return builders;
+    public Collection<Builder> getBuilders() {
+        return Collections.unmodifiableCollection(builders.values());
     }
 
     /**
@@ -642,6 +689,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     public void setBuilders(boolean buildersEnabled) {
         this.buildersEnabled = buildersEnabled;
+        markDirty();
     }
 
     /**
@@ -693,10 +741,7 @@ public class BuildWorld implements ConfigurationSerializable {
      */
     @Nullable
     public Builder getBuilder(UUID uuid) {
-        return this.builders.parallelStream()
-                .filter(builder -> builder.getUuid().equals(uuid))
-                .findFirst()
-                .orElse(null);
+        return this.builders.get(uuid);
     }
 
     /**
@@ -706,7 +751,7 @@ public class BuildWorld implements ConfigurationSerializable {
      * @return Whether the player is a builder
      */
     public boolean isBuilder(UUID uuid) {
-        return this.builders.parallelStream().anyMatch(builder -> builder.getUuid().equals(uuid));
+        return this.builders.containsKey(uuid);
     }
 
     /**
@@ -726,7 +771,10 @@ public class BuildWorld implements ConfigurationSerializable {
      * @param builder The builder object
      */
     public void addBuilder(Builder builder) {
-        this.builders.add(builder);
+        this.builders.put(builder.getUuid(), builder);
+        invalidateRoles();
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -735,7 +783,14 @@ public class BuildWorld implements ConfigurationSerializable {
      * @param builder The builder object
      */
     private void removeBuilder(Builder builder) {
-        this.builders.remove(builder);
+        if (builder == null) {
+            return;
+        }
+
+        this.builders.remove(builder.getUuid());
+        invalidateRoles();
+        invalidateIcon();
+        markDirty();
     }
 
     /**
@@ -748,6 +803,63 @@ public class BuildWorld implements ConfigurationSerializable {
         removeBuilder(getBuilder(uuid));
     }
 
+    /**
+     * Gets the {@link Role} the player with the given unique-id has in the world.
+     * <p>
+     * The role is only calculated once per player and cached until the creator or the builders of the world change.
+     * Since the role is calculated from an immutable snapshot of the creator and the builders, this method may be
+     * called from any thread.
+     *
+     * @param uuid The unique-id of the player
+     * @return The role of the player
+     */
+    public Role getRole(UUID uuid) {
+        return this.roleTable.getRole(uuid);
+    }
+
+    /**
+     * Replaces the snapshot the roles are calculated from after the creator or the builders have changed.
+     * Roles which are still being calculated from the previous snapshot end up in the discarded cache.
+     */
+    private void invalidateRoles() {
+        this.roleTable = new RoleTable(creatorId, builders.keySet());
+    }
+
+    /**
+     * Gets the icon which represents the world in the navigator, if it has been rendered since a property shown by
+     * the icon was last changed.
+     *
+     * @param edit Whether to get the icon which is shown to players who are permitted to edit the world
+     * @return The cached icon, or {@code null} if it has to be rendered
+     * @see InventoryUtil#addWorldItem(Player, org.bukkit.inventory.Inventory, int, BuildWorld)
+     */
+    @Nullable
+    public ItemStack getCachedIcon(boolean edit) {
+        return edit ? editIcon : normalIcon;
+    }
+
+    /**
+     * Caches the rendered icon which represents the world in the navigator.
+     *
+     * @param edit Whether the icon is shown to players who are permitted to edit the world
+     * @param icon The rendered icon
+     */
+    public void cacheIcon(boolean edit, ItemStack icon) {
+        if (edit) {
+            this.editIcon = icon;
+        } else {
+            this.normalIcon = icon;
+        }
+    }
+
+    /**
+     * Discards the cached icons, so that they are rendered again the next time they are shown.
+     */
+    public void invalidateIcon() {
+        this.normalIcon = null;
+        this.editIcon = null;
+    }
+
     /***
      * Save the list of {@link Builder}s in a string which is suitable to be stored.
      *
@@ -784,68 +896,104 @@ public class BuildWorld implements ConfigurationSerializable {
     }
 
     public void manageUnload() {
+        // Worlds which are still queued by the WorldLoadScheduler do not have a bukkit world yet
+        this.loaded = (getWorld() != null);
         if (!configValues.isUnloadWorlds()) {
-            this.loaded = true;
             return;
         }
 
-        this.seconds = configValues.getTimeUntilUnload();
-        this.loaded = (getWorld() != null);
-        startUnloadTask();
+        resetUnloadTask();
     }
 
-    private void startUnloadTask() {
+    /**
+     * Postpones the unload of the world, since it has just been used.
+     *
+     * @see WorldIdleTracker
+     */
+    public void resetUnloadTask() {
         if (!configValues.isUnloadWorlds()) {
             return;
         }
 
-        this.unloadTask = Bukkit.getScheduler().runTaskLater(plugin, this::unload, 20L * seconds);
+        WorldManager worldManager = plugin.getWorldManager();
+        worldManager.getWorldIdleTracker().touch(this);
+        worldManager.getWorldEvictionPolicy().touch(this);
     }
 
-    public void resetUnloadTask() {
-        if (this.unloadTask != null) {
-            this.unloadTask.cancel();
-        }
-
-        startUnloadTask();
+    public void forceUnload(boolean save) {
+        forceUnload(save, null);
     }
 
-    private void unload() {
+    /**
+     * Unloads the world over the next ticks using the {@link WorldUnloadPipeline}.
+     * If the world is already being unloaded, the request is merged into the unload in progress.
+     *
+     * @param save       Whether the world should be saved before being unloaded
+     * @param onComplete Called with {@code true} once the world has been unloaded or right away if it is not loaded,
+     *                   and with {@code false} if the world must not be unloaded, the unload fails or is cancelled
+     */
+    public void forceUnload(boolean save, @Nullable Consumer<Boolean> onComplete) {
         World bukkitWorld = getWorld();
-        if (bukkitWorld == null) {
-            return;
-        }
-
-        if (!bukkitWorld.getPlayers().isEmpty()) {
-            resetUnloadTask();
+        if (bukkitWorld == null || !canUnload(bukkitWorld)) {
+            if (onComplete != null) {
+                onComplete.accept(bukkitWorld == null);
+            }
             return;
         }
 
-        forceUnload(true);
+        plugin.getWorldManager().getWorldUnloadPipeline().unload(this, bukkitWorld, save, onComplete);
     }
 
-    public void forceUnload(boolean save) {
-        World bukkitWorld = getWorld();
-        if (bukkitWorld == null) {
-            return;
-        }
-
-        if (configValues.getBlackListedWorldsToUnload().contains(name) || isSpawnWorld(bukkitWorld)) {
-            return;
-        }
-
-        for (Chunk chunk : bukkitWorld.getLoadedChunks()) {
-            chunk.unload(save);
+    /**
+     * Unloads the bukkit world once all of its chunks have been unloaded by the {@link WorldUnloadPipeline}.
+     *
+     * @param bukkitWorld The bukkit world to unload
+     * @param save        Whether the world should be saved
+     * @return {@code true} if the world was unloaded, otherwise {@code false}
+     */
+    boolean completeUnload(World bukkitWorld, boolean save) {
+        if (!Bukkit.unloadWorld(bukkitWorld, save)) {
+            plugin.getLogger().warning("Unable to unload world \"" + name + "\"");
+            return false;
         }
-
-        Bukkit.unloadWorld(bukkitWorld, save);
         Bukkit.getWorlds().remove(bukkitWorld);
 
         this.loaded = false;
-        this.unloadTask = null;
+        invalidateRoles();
+        plugin.getWorldManager().getWorldIdleTracker().untrack(this);
+        plugin.getWorldManager().getWorldEvictionPolicy().remove(this);
 
         Bukkit.getServer().getPluginManager().callEvent(new BuildWorldUnloadEvent(this));
         plugin.getLogger().info("*** Unloaded world \"" + name + "\" ***");
+        return true;
+    }
+
+    /**
+     * Cancels the unload of the world if it is currently in progress, since the world is needed again.
+     */
+    private void cancelUnload() {
+        if (plugin.getWorldManager().getWorldUnloadPipeline().cancel(this)) {
+            plugin.getLogger().info("*** Cancelled unloading world \"" + name + "\" ***");
+            resetUnloadTask();
+        }
+    }
+
+    private void markDirty() {
+        plugin.getWorldManager().markDirty(this);
+    }
+
+    private BuildWorldRegistry getRegistry() {
+        return plugin.getWorldManager().getWorldRegistry();
+    }
+
+    /**
+     * Gets whether the world may be unloaded at all, which is not the case for blacklisted worlds and the spawn world.
+     *
+     * @param bukkitWorld The bukkit world which belongs to this world
+     * @return {@code true} if the world may be unloaded, otherwise {@code false}
+     */
+    boolean canUnload(World bukkitWorld) {
+        return !configValues.getBlackListedWorldsToUnload().contains(name) && !isSpawnWorld(bukkitWorld);
     }
 
     private boolean isSpawnWorld(World bukkitWorld) {
@@ -858,17 +1006,27 @@ public class BuildWorld implements ConfigurationSerializable {
     }
 
     public void load(Player player) {
+        cancelUnload();
         if (isLoaded()) {
             return;
         }
 
+        sendLoadingTitle(player);
+        load();
+    }
+
+    /**
+     * Lets the player know that the world is being loaded.
+     *
+     * @param player The player who is waiting for the world
+     */
+    void sendLoadingTitle(Player player) {
         player.closeInventory();
         Titles.sendTitle(player, 5, 70, 20, " ", Messages.getString("loading_world", new AbstractMap.SimpleEntry<>("%world%", name)));
-
-        load();
     }
 
     public void load() {
+        cancelUnload();
         if (isLoaded()) {
             return;
         }
@@ -917,4 +1075,34 @@ public class BuildWorld implements ConfigurationSerializable {
     public enum Time {
         SUNRISE, NOON, NIGHT, UNKNOWN
     }
-}
\ No newline at end of file
+
+    /**
+     * An immutable snapshot of the creator and the builders of a world, together with the roles calculated from it.
+     */
+    private static class RoleTable {
+
+        private final UUID creatorId;
+        private final Set<UUID> builderIds;
+        private final Map<UUID, Role> roles;
+
+        private RoleTable(@Nullable UUID creatorId, Collection<UUID> builderIds) {
+            this.creatorId = creatorId;
+            this.builderIds = new HashSet<>(builderIds);
+            this.roles = new ConcurrentHashMap<>();
+        }
+
+        private Role getRole(UUID uuid) {
+            return roles.computeIfAbsent(uuid, this::calculateRole);
+        }
+
+        private Role calculateRole(UUID uuid) {
+            if (uuid.equals(creatorId)) {
+                return Role.CREATOR;
+            } else if (builderIds.contains(uuid)) {
+                return Role.BUILDER;
+            } else {
+                return Role.GUEST;
+            }
+        }
+    }
+}
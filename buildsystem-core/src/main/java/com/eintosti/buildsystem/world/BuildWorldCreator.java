@@ -9,10 +9,11 @@ package com.eintosti.buildsystem.world;
 
 import com.cryptomorin.xseries.XMaterial;
 import com.cryptomorin.xseries.XSound;
+import com.cryptomorin.xseries.messages.ActionBar;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.config.ConfigValues;
-import com.eintosti.buildsystem.util.FileUtils;
+import com.eintosti.buildsystem.util.DirectoryCopyJob;
 import com.eintosti.buildsystem.util.external.PlayerChatInput;
 import com.eintosti.buildsystem.world.data.WorldType;
 import com.eintosti.buildsystem.world.generator.CustomGenerator;
@@ -26,10 +27,12 @@ import org.bukkit.World;
 import org.bukkit.WorldCreator;
 import org.bukkit.entity.Player;
 import org.bukkit.generator.ChunkGenerator;
+import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.File;
 import java.util.AbstractMap;
+import java.util.logging.Level;
 
 /**
  * @author Trichtern
@@ -46,6 +49,7 @@ public class BuildWorldCreator {
     private CustomGenerator customGenerator = null;
     private boolean privateWorld = false;
     private Difficulty difficulty;
+    private BuildWorld buildWorld = null;
 
     public BuildWorldCreator(BuildSystem plugin, @NotNull String name) {
         this.plugin = plugin;
@@ -59,6 +63,7 @@ public class BuildWorldCreator {
         this.plugin = plugin;
         this.worldManager = plugin.getWorldManager();
 
+        this.buildWorld = buildWorld;
         setName(buildWorld.getName());
         setType(buildWorld.getType());
         setCustomGenerator(buildWorld.getCustomGenerator());
@@ -142,7 +147,7 @@ public class BuildWorldCreator {
                 privateWorld,
                 null
         );
-        worldManager.getBuildWorlds().add(buildWorld);
+        worldManager.addBuildWorld(buildWorld);
 
         Messages.sendMessage(player, "worlds_world_creation_started",
                 new AbstractMap.SimpleEntry<>("%world%", worldName),
@@ -182,7 +187,7 @@ public class BuildWorldCreator {
             this.customGenerator = new CustomGenerator(generatorInfo[0], chunkGenerator);
             plugin.getLogger().info("Using custom world generator: " + customGenerator.getName());
 
-            worldManager.getBuildWorlds().add(new BuildWorld(
+            worldManager.addBuildWorld(new BuildWorld(
                     worldName,
                     player.getName(),
                     player.getUniqueId(),
@@ -205,9 +210,12 @@ public class BuildWorldCreator {
 
     /**
      * Generate a {@link BuildWorld} with a template.
+     * <p>
+     * The template is copied asynchronously, while the player is kept informed about the progress.
+     * The world is only registered and loaded once the copy has finished.
      *
      * @param player The player who is creating the world
-     * @return {@code true} if the world was successfully created, {@code false otherwise}
+     * @return {@code true} if the creation of the world was started, {@code false otherwise}
      */
     private boolean createTemplateWorld(Player player) {
         boolean worldExists = worldManager.getBuildWorld(worldName) != null;
@@ -223,27 +231,57 @@ public class BuildWorldCreator {
             return false;
         }
 
-        BuildWorld buildWorld = new BuildWorld(
-                worldName,
-                player.getName(),
-                player.getUniqueId(),
-                WorldType.TEMPLATE,
-                System.currentTimeMillis(),
-                privateWorld,
-                null
-        );
-        worldManager.getBuildWorlds().add(buildWorld);
+        // Claim the name of the world before the copy is started, so that no other world can be created with it
+        if (!worldFile.mkdirs()) {
+            Messages.sendMessage(player, "worlds_world_exists");
+            return false;
+        }
 
         Messages.sendMessage(player, "worlds_template_creation_started",
                 new AbstractMap.SimpleEntry<>("%world%", worldName),
                 new AbstractMap.SimpleEntry<>("%template%", template)
         );
-        FileUtils.copy(templateFile, worldFile);
-        Bukkit.createWorld(WorldCreator.name(worldName)
-                .type(org.bukkit.WorldType.FLAT)
-                .generateStructures(false));
-        teleportAfterCreation(player);
-        Messages.sendMessage(player, "worlds_creation_finished");
+
+        DirectoryCopyJob copyJob = new DirectoryCopyJob(templateFile.toPath(), worldFile.toPath(), plugin.getConfigValues().isTemplateCopyOnWrite());
+        BukkitTask progressTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            if (player.isOnline()) {
+                ActionBar.sendActionBar(player, Messages.getString("worlds_template_creation_progress",
+                        new AbstractMap.SimpleEntry<>("%progress%", (int) (copyJob.getProgress() * 100))
+                ));
+            }
+        }, 20L, 20L);
+
+        copyJob.start(worldManager.getFileExecutor()).whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            progressTask.cancel();
+            if (throwable != null) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to copy template \"" + template + "\" to world \"" + worldName + "\"", throwable);
+                if (player.isOnline()) {
+                    ActionBar.clearActionBar(player);
+                    Messages.sendMessage(player, "worlds_template_creation_failed");
+                }
+                return;
+            }
+
+            worldManager.addBuildWorld(new BuildWorld(
+                    worldName,
+                    player.getName(),
+                    player.getUniqueId(),
+                    WorldType.TEMPLATE,
+                    System.currentTimeMillis(),
+                    privateWorld,
+                    null
+            ));
+            Bukkit.createWorld(WorldCreator.name(worldName)
+                    .type(org.bukkit.WorldType.FLAT)
+                    .generateStructures(false));
+            markLoaded();
+
+            if (player.isOnline()) {
+                ActionBar.clearActionBar(player);
+                teleportAfterCreation(player);
+                Messages.sendMessage(player, "worlds_creation_finished");
+            }
+        }));
         return true;
     }
 
@@ -334,11 +372,23 @@ public class BuildWorldCreator {
             bukkitWorld.getWorldBorder().setSize(configValues.getWorldBorderSize());
             bukkitWorld.setKeepSpawnInMemory(configValues.isTeleportAfterCreation());
             configValues.getDefaultGameRules().forEach(bukkitWorld::setGameRuleValue);
+            markLoaded();
         }
 
         return bukkitWorld;
     }
 
+    /**
+     * Marks the {@link BuildWorld} as loaded once its bukkit world has been created. Imported worlds are not
+     * registered yet at this point, so the build world the creator was created for is preferred.
+     */
+    private void markLoaded() {
+        BuildWorld buildWorld = this.buildWorld != null ? this.buildWorld : worldManager.getBuildWorld(worldName);
+        if (buildWorld != null) {
+            buildWorld.manageUnload();
+        }
+    }
+
     private void teleportAfterCreation(Player player) {
         if (!plugin.getConfigValues().isTeleportAfterCreation()) {
             return;
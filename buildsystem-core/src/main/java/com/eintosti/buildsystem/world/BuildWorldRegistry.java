@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.navigator.WorldSort;
+import com.eintosti.buildsystem.navigator.world.FilteredWorldsInventory.Visibility;
+import com.eintosti.buildsystem.world.data.WorldStatus;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Holds all registered {@link BuildWorld}s, keyed by their normalized name.
+ * <p>
+ * Besides the name lookup, secondary indexes are kept by creator, status and visibility so that filtered
+ * queries do not have to go through every world. The worlds are also kept sorted in every {@link WorldSort} order
+ * and can be searched by their name, project and creator.
+ * Whenever one of those properties changes, the corresponding {@code update} method has to be called in order to
+ * keep the indexes consistent.
+ * <p>
+ * Loaded worlds are additionally bound to their {@link World} instance, which allows listeners to resolve the
+ * build world of an event with a single identity lookup.
+ *
+ * @author einTosti
+ */
+public class BuildWorldRegistry {
+
+    private final Map<String, BuildWorld> worldsByName;
+    private final Map<UUID, Set<BuildWorld>> worldsByCreator;
+    private final Map<WorldStatus, Set<BuildWorld>> worldsByStatus;
+    private final Map<Visibility, Set<BuildWorld>> worldsByVisibility;
+    private final SortedWorldViews sortedViews;
+    private final WorldSearchIndex searchIndex;
+    private final Map<World, BuildWorld> worldBindings;
+
+    public BuildWorldRegistry() {
+        this.worldsByName = new LinkedHashMap<>();
+        this.worldsByCreator = new HashMap<>();
+        this.worldsByStatus = new EnumMap<>(WorldStatus.class);
+        this.worldsByVisibility = new EnumMap<>(Visibility.class);
+        this.sortedViews = new SortedWorldViews();
+        this.searchIndex = new WorldSearchIndex();
+        this.worldBindings = new IdentityHashMap<>();
+    }
+
+    /**
+     * Normalizes a world name so that lookups are case-insensitive.
+     *
+     * @param worldName The name of the world
+     * @return The normalized name
+     */
+    public static String normalize(String worldName) {
+        return worldName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the {@link BuildWorld} with the given name, ignoring case.
+     *
+     * @param worldName The name of the world
+     * @return The world object if one was found, {@code null} otherwise
+     */
+    @Nullable
+    public BuildWorld get(String worldName) {
+        if (worldName == null) {
+            return null;
+        }
+        return worldsByName.get(normalize(worldName));
+    }
+
+    /**
+     * Gets the {@link BuildWorld} which is bound to the given {@link World}.
+     *
+     * @param bukkitWorld The bukkit world
+     * @return The world object if the world is bound, {@code null} otherwise
+     * @see #bind(World)
+     */
+    @Nullable
+    public BuildWorld get(World bukkitWorld) {
+        return worldBindings.get(bukkitWorld);
+    }
+
+    /**
+     * Binds the given {@link World} to the registered {@link BuildWorld} with the same name, if any.
+     *
+     * @param bukkitWorld The bukkit world which has been loaded
+     * @return The world object the world was bound to, or {@code null} if the world is not a build world
+     */
+    @Nullable
+    public BuildWorld bind(World bukkitWorld) {
+        BuildWorld buildWorld = get(bukkitWorld.getName());
+        if (buildWorld == null) {
+            worldBindings.remove(bukkitWorld);
+            return null;
+        }
+
+        worldBindings.put(bukkitWorld, buildWorld);
+        return buildWorld;
+    }
+
+    /**
+     * Drops the binding of the given {@link World}, which should happen as soon as the world is unloaded.
+     *
+     * @param bukkitWorld The bukkit world which has been unloaded
+     */
+    public void unbind(World bukkitWorld) {
+        worldBindings.remove(bukkitWorld);
+    }
+
+    /**
+     * Drops every binding of the given {@link BuildWorld}.
+     *
+     * @param buildWorld The world object which has been unloaded
+     */
+    public void unbind(BuildWorld buildWorld) {
+        worldBindings.values().removeIf(boundWorld -> boundWorld == buildWorld);
+    }
+
+    /**
+     * Gets whether the given world is currently registered.
+     *
+     * @param buildWorld The world object
+     * @return {@code true} if the world is registered, otherwise {@code false}
+     */
+    public boolean contains(BuildWorld buildWorld) {
+        return worldsByName.get(normalize(buildWorld.getName())) == buildWorld;
+    }
+
+    /**
+     * Registers a {@link BuildWorld} and adds it to all indexes.
+     * If a world with the same name has already been registered, it will be replaced.
+     *
+     * @param buildWorld The world to register
+     */
+    public void register(BuildWorld buildWorld) {
+        BuildWorld previous = worldsByName.put(normalize(buildWorld.getName()), buildWorld);
+        if (previous != null && previous != buildWorld) {
+            removeFromIndexes(previous);
+            unbind(previous);
+        }
+        addToIndexes(buildWorld);
+    }
+
+    /**
+     * Removes a {@link BuildWorld} from the registry and all indexes.
+     *
+     * @param buildWorld The world to unregister
+     * @return {@code true} if the world was registered, otherwise {@code false}
+     */
+    public boolean unregister(BuildWorld buildWorld) {
+        if (!worldsByName.remove(normalize(buildWorld.getName()), buildWorld)) {
+            return false;
+        }
+        removeFromIndexes(buildWorld);
+        unbind(buildWorld);
+        return true;
+    }
+
+    /**
+     * Changes the name of a {@link BuildWorld} while keeping the name index consistent.
+     *
+     * @param buildWorld The world to rename
+     * @param newName    The new name of the world
+     */
+    public void rename(BuildWorld buildWorld, String newName) {
+        boolean registered = worldsByName.remove(normalize(buildWorld.getName()), buildWorld);
+        if (registered) {
+            sortedViews.remove(buildWorld);
+            searchIndex.remove(buildWorld);
+        }
+
+        buildWorld.setName(newName);
+        if (registered) {
+            worldsByName.put(normalize(newName), buildWorld);
+            sortedViews.add(buildWorld);
+            searchIndex.add(buildWorld);
+        }
+    }
+
+    /**
+     * Must be called after the creator of a world has changed.
+     *
+     * @param buildWorld        The world whose creator changed
+     * @param previousCreatorId The unique-id of the previous creator
+     */
+    public void updateCreator(BuildWorld buildWorld, @Nullable UUID previousCreatorId) {
+        if (!contains(buildWorld)) {
+            return;
+        }
+        removeFromIndex(worldsByCreator, previousCreatorId, buildWorld);
+        addToIndex(worldsByCreator, buildWorld.getCreatorId(), buildWorld);
+    }
+
+    /**
+     * Must be called after the name of the creator of a world has changed.
+     *
+     * @param buildWorld The world whose creator's name changed
+     */
+    public void updateCreatorName(BuildWorld buildWorld) {
+        if (!contains(buildWorld)) {
+            return;
+        }
+        searchIndex.update(buildWorld);
+    }
+
+    /**
+     * Must be called after the status of a world has changed.
+     *
+     * @param buildWorld     The world whose status changed
+     * @param previousStatus The previous status
+     */
+    public void updateStatus(BuildWorld buildWorld, WorldStatus previousStatus) {
+        if (!contains(buildWorld)) {
+            return;
+        }
+        removeFromIndex(worldsByStatus, previousStatus, buildWorld);
+        addToIndex(worldsByStatus, buildWorld.getStatus(), buildWorld);
+        sortedViews.update(buildWorld);
+    }
+
+    /**
+     * Must be called after the project of a world has changed.
+     *
+     * @param buildWorld The world whose project changed
+     */
+    public void updateProject(BuildWorld buildWorld) {
+        if (!contains(buildWorld)) {
+            return;
+        }
+        sortedViews.update(buildWorld);
+        searchIndex.update(buildWorld);
+    }
+
+    /**
+     * Must be called after the visibility of a world has changed.
+     *
+     * @param buildWorld The world whose visibility changed
+     */
+    public void updateVisibility(BuildWorld buildWorld) {
+        if (!contains(buildWorld)) {
+            return;
+        }
+        removeFromIndex(worldsByVisibility, Visibility.PRIVATE, buildWorld);
+        removeFromIndex(worldsByVisibility, Visibility.PUBLIC, buildWorld);
+        addToIndex(worldsByVisibility, Visibility.matchVisibility(buildWorld.isPrivate()), buildWorld);
+    }
+
+    /**
+     * Gets all registered worlds in the order they were registered.
+     *
+     * @return An unmodifiable view of all worlds
+     */
+    public Collection<BuildWorld> getWorlds() {
+        return Collections.unmodifiableCollection(worldsByName.values());
+    }
+
+    /**
+     * Gets all worlds which are currently loaded and bound to their {@link World}.
+     *
+     * @return An unmodifiable view of all loaded worlds
+     */
+    public Collection<BuildWorld> getLoadedWorlds() {
+        return Collections.unmodifiableCollection(worldBindings.values());
+    }
+
+    /**
+     * Gets all worlds created by the player with the given unique-id.
+     *
+     * @param creatorId The unique-id of the creator
+     * @return An unmodifiable view of all worlds created by the player
+     */
+    public Set<BuildWorld> getWorldsCreatedBy(UUID creatorId) {
+        return view(worldsByCreator, creatorId);
+    }
+
+    /**
+     * Gets all worlds with the given status.
+     *
+     * @param worldStatus The status
+     * @return An unmodifiable view of all worlds with the status
+     */
+    public Set<BuildWorld> getWorlds(WorldStatus worldStatus) {
+        return view(worldsByStatus, worldStatus);
+    }
+
+    /**
+     * Gets all worlds with the given visibility.
+     * {@link Visibility#IGNORE} returns every world.
+     *
+     * @param visibility The visibility
+     * @return An unmodifiable view of all worlds with the visibility
+     */
+    public Collection<BuildWorld> getWorlds(Visibility visibility) {
+        if (visibility == Visibility.IGNORE) {
+            return getWorlds();
+        }
+        return view(worldsByVisibility, visibility);
+    }
+
+    /**
+     * Gets all registered worlds in the given order.
+     *
+     * @param worldSort The order
+     * @return An unmodifiable view of all worlds, sorted accordingly
+     */
+    public Collection<BuildWorld> getWorlds(WorldSort worldSort) {
+        return sortedViews.getWorlds(worldSort);
+    }
+
+    /**
+     * Gets all worlds whose name, project or creator contains the given query, ignoring case.
+     * Queries with less than three characters only match the beginning of those properties.
+     *
+     * @param query     The query
+     * @param worldSort The order of the results
+     * @return The matching worlds, sorted accordingly
+     */
+    public List<BuildWorld> search(String query, WorldSort worldSort) {
+        List<BuildWorld> matches = new ArrayList<>(searchIndex.search(query));
+        matches.sort(sortedViews.getWorlds(worldSort).comparator());
+        return matches;
+    }
+
+    public int size() {
+        return worldsByName.size();
+    }
+
+    private void addToIndexes(BuildWorld buildWorld) {
+        addToIndex(worldsByCreator, buildWorld.getCreatorId(), buildWorld);
+        addToIndex(worldsByStatus, buildWorld.getStatus(), buildWorld);
+        addToIndex(worldsByVisibility, Visibility.matchVisibility(buildWorld.isPrivate()), buildWorld);
+        sortedViews.add(buildWorld);
+        searchIndex.add(buildWorld);
+    }
+
+    private void removeFromIndexes(BuildWorld buildWorld) {
+        removeFromIndex(worldsByCreator, buildWorld.getCreatorId(), buildWorld);
+        removeFromIndex(worldsByStatus, buildWorld.getStatus(), buildWorld);
+        removeFromIndex(worldsByVisibility, Visibility.matchVisibility(buildWorld.isPrivate()), buildWorld);
+        sortedViews.remove(buildWorld);
+        searchIndex.remove(buildWorld);
+    }
+
+    private <K> void addToIndex(Map<K, Set<BuildWorld>> index, @Nullable K key, BuildWorld buildWorld) {
+        if (key == null) {
+            return;
+        }
+        index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(buildWorld);
+    }
+
+    private <K> void removeFromIndex(Map<K, Set<BuildWorld>> index, @Nullable K key, BuildWorld buildWorld) {
+        if (key == null) {
+            return;
+        }
+
+        Set<BuildWorld> worlds = index.get(key);
+        if (worlds == null) {
+            return;
+        }
+
+        worlds.remove(buildWorld);
+        if (worlds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private <K> Set<BuildWorld> view(Map<K, Set<BuildWorld>> index, @Nullable K key) {
+        if (key == null) {
+            return Collections.emptySet();
+        }
+
+        Set<BuildWorld> worlds = index.get(key);
+        return worlds != null ? Collections.unmodifiableSet(worlds) : Collections.emptySet();
+    }
+}
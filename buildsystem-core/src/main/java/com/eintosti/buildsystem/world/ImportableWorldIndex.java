@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import org.bukkit.Bukkit;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps track of all directories in the world container which contain a world, i.e. a {@code level.dat}.
+ * <p>
+ * The index is built once and then kept up to date by a {@link WatchService}, so that looking up importable worlds
+ * never has to access the disk. Directories which do not contain a {@code level.dat} yet are watched as well,
+ * since the server creates a world's directory before writing its {@code level.dat}.
+ *
+ * @author einTosti
+ */
+public class ImportableWorldIndex {
+
+    private static final String LEVEL_FILE = "level.dat";
+
+    private final BuildSystem plugin;
+    private final WorldManager worldManager;
+    private final Path worldContainer;
+
+    private final Set<String> worldDirectories;
+    /**
+     * Directories without a {@code level.dat} which are watched until one is created.
+     */
+    private final Map<Path, WatchKey> pendingDirectories;
+
+    private WatchService watchService;
+
+    public ImportableWorldIndex(BuildSystem plugin, WorldManager worldManager) {
+        this.plugin = plugin;
+        this.worldManager = worldManager;
+        this.worldContainer = Bukkit.getWorldContainer().toPath().toAbsolutePath().normalize();
+
+        this.worldDirectories = ConcurrentHashMap.newKeySet();
+        this.pendingDirectories = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Builds the index and starts watching the world container for changes.
+     */
+    public void start() {
+        try {
+            this.watchService = worldContainer.getFileSystem().newWatchService();
+            worldContainer.register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE
+            );
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Unable to watch the world container for importable worlds", e);
+        }
+
+        if (watchService == null) {
+            rebuild();
+            return;
+        }
+
+        Thread watchThread = new Thread(() -> {
+            rebuild();
+            watch();
+        }, "BuildSystem World Index");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching the world container.
+     */
+    public void stop() {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Gets the names of all directories which contain a world that has not been imported yet.
+     * Must be called from the main thread.
+     *
+     * @return The names of all importable worlds
+     */
+    public List<String> getImportableWorlds() {
+        return worldDirectories.stream()
+                .filter(name -> worldManager.getBuildWorld(name) == null)
+                .sorted(String.CASE_INSENSITIVE_ORDER)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the names of all directories which contain a world that has not been imported yet and whose name
+     * starts with the given prefix, ignoring case. Must be called from the main thread.
+     *
+     * @param prefix The prefix
+     * @return The names of all matching importable worlds
+     */
+    public List<String> getImportableWorlds(String prefix) {
+        String lowerCasePrefix = prefix.toLowerCase();
+        return getImportableWorlds().stream()
+                .filter(name -> name.toLowerCase().startsWith(lowerCasePrefix))
+                .collect(Collectors.toList());
+    }
+
+    private void rebuild() {
+        worldDirectories.clear();
+        pendingDirectories.values().forEach(WatchKey::cancel);
+        pendingDirectories.clear();
+
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(worldContainer, Files::isDirectory)) {
+            for (Path directory : directories) {
+                addDirectory(directory);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Unable to index the world container", e);
+        }
+    }
+
+    private void addDirectory(Path directory) {
+        String name = directory.getFileName().toString();
+        if (WorldTombstones.isTombstone(name) || !Files.isDirectory(directory)) {
+            return;
+        }
+
+        if (Files.exists(directory.resolve(LEVEL_FILE))) {
+            worldDirectories.add(name);
+            return;
+        }
+
+        if (watchService == null || pendingDirectories.containsKey(directory)) {
+            return;
+        }
+
+        try {
+            pendingDirectories.put(directory, directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE));
+            // The level.dat might have been created before the directory was registered
+            if (Files.exists(directory.resolve(LEVEL_FILE))) {
+                stopWatching(directory);
+                worldDirectories.add(name);
+            }
+        } catch (IOException ignored) {
+            // The directory has already been removed again
+        }
+    }
+
+    private void removeDirectory(Path directory) {
+        worldDirectories.remove(directory.getFileName().toString());
+        stopWatching(directory);
+    }
+
+    private void stopWatching(Path directory) {
+        WatchKey key = pendingDirectories.remove(directory);
+        if (key != null) {
+            key.cancel();
+        }
+    }
+
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path watched = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    rebuild();
+                    continue;
+                }
+
+                Path path = watched.resolve((Path) event.context());
+                if (watched.equals(worldContainer)) {
+                    if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                        addDirectory(path);
+                    } else if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) {
+                        removeDirectory(path);
+                    }
+                } else if (path.getFileName().toString().equals(LEVEL_FILE)) {
+                    stopWatching(watched);
+                    worldDirectories.add(watched.getFileName().toString());
+                }
+            }
+
+            key.reset();
+        }
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.cryptomorin.xseries.XMaterial;
+import com.eintosti.buildsystem.BuildSystem;
+import io.papermc.lib.PaperLib;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Searches for a location at which a player can safely stand, i.e. a solid block with two blocks of air above it.
+ * <p>
+ * The chunks which are searched are captured as {@link ChunkSnapshot}s on the main thread, while the columns
+ * themselves are scanned asynchronously. On versions prior to 1.13, snapshots cannot be queried for the type of a block,
+ * which is why the columns are scanned on the main thread instead.
+ *
+ * @author einTosti
+ */
+public class SafeLocationFinder {
+
+    private final BuildSystem plugin;
+
+    public SafeLocationFinder(BuildSystem plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Finds the lowest safe location in the column of the given location. If the column does not contain a safe
+     * location, the surrounding columns are searched in a spiral up to the given radius.
+     *
+     * @param origin The location to start searching from
+     * @param radius The maximum horizontal distance to the origin, in blocks
+     * @return A future which completes on the main thread with the safe location, or {@code null} if there is none.
+     * The future completes exceptionally if the search fails
+     */
+    public CompletableFuture<Location> findLowest(Location origin, int radius) {
+        return find(origin, radius, false, Integer.MIN_VALUE);
+    }
+
+    /**
+     * Finds the highest safe location in the column of the given location which is above the origin.
+     *
+     * @param origin The location to start searching from
+     * @return A future which completes on the main thread with the safe location, or {@code null} if there is none.
+     * The future completes exceptionally if the search fails
+     */
+    public CompletableFuture<Location> findHighestAbove(Location origin) {
+        return find(origin, 0, true, origin.getBlockY() + 1);
+    }
+
+    private CompletableFuture<Location> find(Location origin, int radius, boolean fromTop, int lowestY) {
+        World world = origin.getWorld();
+        int originX = origin.getBlockX();
+        int originZ = origin.getBlockZ();
+
+        List<CompletableFuture<Chunk>> chunkFutures = new ArrayList<>();
+        for (int chunkX = (originX - radius) >> 4; chunkX <= (originX + radius) >> 4; chunkX++) {
+            for (int chunkZ = (originZ - radius) >> 4; chunkZ <= (originZ + radius) >> 4; chunkZ++) {
+                chunkFutures.add(PaperLib.getChunkAtAsync(world, chunkX, chunkZ));
+            }
+        }
+
+        CompletableFuture<Location> result = new CompletableFuture<>();
+        CompletableFuture.allOf(chunkFutures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            ColumnSearch search = new ColumnSearch(origin, radius, fromTop, lowestY);
+
+            if (!XMaterial.supports(13)) {
+                result.complete(search.run((x, y, z) -> world.getBlockAt(x, y, z).getType()));
+                return;
+            }
+
+            Map<Long, ChunkSnapshot> snapshots = new HashMap<>();
+            for (CompletableFuture<Chunk> chunkFuture : chunkFutures) {
+                Chunk chunk = chunkFuture.join();
+                snapshots.put(getChunkKey(chunk.getX(), chunk.getZ()), chunk.getChunkSnapshot(false, false, false));
+            }
+
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                // The scheduler swallows exceptions, so they have to be passed on for the future to complete at all
+                try {
+                    Location location = search.run((x, y, z) -> snapshots.get(getChunkKey(x >> 4, z >> 4)).getBlockType(x & 15, y, z & 15));
+                    Bukkit.getScheduler().runTask(plugin, () -> result.complete(location));
+                } catch (Exception e) {
+                    Bukkit.getScheduler().runTask(plugin, () -> result.completeExceptionally(e));
+                }
+            });
+        }).exceptionally(throwable -> {
+            result.completeExceptionally(throwable);
+            return null;
+        });
+        return result;
+    }
+
+    private static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static boolean isAir(Material material) {
+        return material == Material.AIR || (XMaterial.supports(13) && (material == Material.CAVE_AIR || material == Material.VOID_AIR));
+    }
+
+    @FunctionalInterface
+    private interface BlockTypes {
+        Material getType(int x, int y, int z);
+    }
+
+    private static class ColumnSearch {
+
+        private final Location origin;
+        private final World world;
+        private final int radius;
+        private final boolean fromTop;
+        private final int minY;
+        private final int maxY;
+
+        private ColumnSearch(Location origin, int radius, boolean fromTop, int lowestY) {
+            this.origin = origin;
+            this.world = origin.getWorld();
+            this.radius = radius;
+            this.fromTop = fromTop;
+            this.minY = Math.max(lowestY, (XMaterial.supports(17) ? world.getMinHeight() : 0) + 1);
+            this.maxY = world.getMaxHeight() - 2;
+        }
+
+        @Nullable
+        private Location run(BlockTypes blockTypes) {
+            int originX = origin.getBlockX();
+            int originZ = origin.getBlockZ();
+
+            for (int ring = 0; ring <= radius; ring++) {
+                for (int dx = -ring; dx <= ring; dx++) {
+                    for (int dz = -ring; dz <= ring; dz++) {
+                        // Only visit the outline of the current ring, the inside has already been searched
+                        if (Math.abs(dx) != ring && Math.abs(dz) != ring) {
+                            continue;
+                        }
+
+                        int x = originX + dx;
+                        int z = originZ + dz;
+                        int y = scanColumn(blockTypes, x, z);
+                        if (y != Integer.MIN_VALUE) {
+                            return new Location(world, x + 0.5, y, z + 0.5, origin.getYaw(), origin.getPitch());
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return The y-coordinate of the feet of a player standing in the column, or {@link Integer#MIN_VALUE} if there is no safe spot
+         */
+        private int scanColumn(BlockTypes blockTypes, int x, int z) {
+            if (minY > maxY) {
+                return Integer.MIN_VALUE;
+            }
+
+            if (fromTop) {
+                Material head = blockTypes.getType(x, maxY + 1, z);
+                Material feet = blockTypes.getType(x, maxY, z);
+                for (int y = maxY; y >= minY; y--) {
+                    Material ground = blockTypes.getType(x, y - 1, z);
+                    if (ground.isSolid() && isAir(feet) && isAir(head)) {
+                        return y;
+                    }
+                    head = feet;
+                    feet = ground;
+                }
+            } else {
+                Material ground = blockTypes.getType(x, minY - 1, z);
+                Material feet = blockTypes.getType(x, minY, z);
+                for (int y = minY; y <= maxY; y++) {
+                    Material head = blockTypes.getType(x, y + 1, z);
+                    if (ground.isSolid() && isAir(feet) && isAir(head)) {
+                        return y;
+                    }
+                    ground = feet;
+                    feet = head;
+                }
+            }
+            return Integer.MIN_VALUE;
+        }
+    }
+}
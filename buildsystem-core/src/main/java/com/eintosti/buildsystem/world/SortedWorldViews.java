@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.navigator.WorldSort;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Keeps the registered worlds sorted in every {@link WorldSort} order, so that navigators can iterate a
+ * ready-made order instead of sorting all worlds whenever they are opened.
+ * <p>
+ * Every order is backed by a {@link TreeSet} whose descending view provides the reversed order. The keys which
+ * are compared are computed once whenever a world is added or updated, which also guarantees that a world is
+ * always removed using the keys it was inserted with.
+ *
+ * @author einTosti
+ */
+class SortedWorldViews {
+
+    private final Map<BuildWorld, SortKey> sortKeys;
+
+    private final NavigableSet<BuildWorld> byName;
+    private final NavigableSet<BuildWorld> byProject;
+    private final NavigableSet<BuildWorld> byStatus;
+    private final NavigableSet<BuildWorld> byCreation;
+
+    SortedWorldViews() {
+        this.sortKeys = new IdentityHashMap<>();
+
+        Comparator<BuildWorld> nameComparator = Comparator.comparing(buildWorld -> sortKeys.get(buildWorld).name);
+        this.byName = new TreeSet<>(nameComparator);
+        this.byProject = new TreeSet<>(Comparator.<BuildWorld, String>comparing(buildWorld -> sortKeys.get(buildWorld).project).thenComparing(nameComparator));
+        this.byStatus = new TreeSet<>(Comparator.<BuildWorld>comparingInt(buildWorld -> sortKeys.get(buildWorld).stage).thenComparing(nameComparator));
+        this.byCreation = new TreeSet<>(Comparator.<BuildWorld>comparingLong(buildWorld -> sortKeys.get(buildWorld).creation).thenComparing(nameComparator));
+    }
+
+    void add(BuildWorld buildWorld) {
+        sortKeys.put(buildWorld, new SortKey(buildWorld));
+        byName.add(buildWorld);
+        byProject.add(buildWorld);
+        byStatus.add(buildWorld);
+        byCreation.add(buildWorld);
+    }
+
+    void remove(BuildWorld buildWorld) {
+        if (!sortKeys.containsKey(buildWorld)) {
+            return;
+        }
+
+        byName.remove(buildWorld);
+        byProject.remove(buildWorld);
+        byStatus.remove(buildWorld);
+        byCreation.remove(buildWorld);
+        sortKeys.remove(buildWorld);
+    }
+
+    /**
+     * Moves the world to its new position after a property it is sorted by has changed.
+     *
+     * @param buildWorld The world which changed
+     */
+    void update(BuildWorld buildWorld) {
+        remove(buildWorld);
+        add(buildWorld);
+    }
+
+    /**
+     * Gets all worlds in the given order.
+     *
+     * @param worldSort The order
+     * @return An unmodifiable, live view of all worlds in the order
+     */
+    NavigableSet<BuildWorld> getWorlds(WorldSort worldSort) {
+        switch (worldSort) {
+            default: // NAME_A_TO_Z
+                return Collections.unmodifiableNavigableSet(byName);
+            case NAME_Z_TO_A:
+                return Collections.unmodifiableNavigableSet(byName.descendingSet());
+            case PROJECT_A_TO_Z:
+                return Collections.unmodifiableNavigableSet(byProject);
+            case PROJECT_Z_TO_A:
+                return Collections.unmodifiableNavigableSet(byProject.descendingSet());
+            case STATUS_NOT_STARTED:
+                return Collections.unmodifiableNavigableSet(byStatus);
+            case STATUS_FINISHED:
+                return Collections.unmodifiableNavigableSet(byStatus.descendingSet());
+            case NEWEST_FIRST:
+                return Collections.unmodifiableNavigableSet(byCreation.descendingSet());
+            case OLDEST_FIRST:
+                return Collections.unmodifiableNavigableSet(byCreation);
+        }
+    }
+
+    private static class SortKey {
+
+        private final String name;
+        private final String project;
+        private final int stage;
+        private final long creation;
+
+        private SortKey(BuildWorld buildWorld) {
+            this.name = buildWorld.getName().toLowerCase(Locale.ROOT);
+            String project = buildWorld.getProject();
+            this.project = project != null ? project.toLowerCase(Locale.ROOT) : "";
+            this.stage = buildWorld.getStatus().getStage();
+            this.creation = buildWorld.getCreationDate();
+        }
+    }
+}
@@ -9,6 +9,7 @@ package com.eintosti.buildsystem.world;
 
 import com.cryptomorin.xseries.messages.Titles;
 import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.config.SpawnConfig;
 import com.eintosti.buildsystem.world.data.WorldType;
 import io.papermc.lib.PaperLib;
@@ -19,12 +20,15 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
 
 /**
  * @author einTosti
  */
 public class SpawnManager {
 
+    private final BuildSystem plugin;
     private final WorldManager worldManager;
     private final SpawnConfig spawnConfig;
 
@@ -32,6 +36,7 @@ public class SpawnManager {
     private Location spawn;
 
     public SpawnManager(BuildSystem plugin) {
+        this.plugin = plugin;
         this.worldManager = plugin.getWorldManager();
         this.spawnConfig = new SpawnConfig(plugin);
     }
@@ -42,15 +47,38 @@ public class SpawnManager {
         }
 
         BuildWorld buildWorld = worldManager.getBuildWorld(spawnName);
-        if (buildWorld != null) {
-            if (!buildWorld.isLoaded()) {
-                buildWorld.load(player);
+        CompletableFuture<World> loadFuture = buildWorld != null
+                ? worldManager.loadWorld(player, buildWorld)
+                : CompletableFuture.completedFuture(spawn.getWorld());
+
+        Location spawn = this.spawn;
+        loadFuture.thenCompose(bukkitWorld -> {
+            if (bukkitWorld == null) {
+                Titles.clearTitle(player);
+                Messages.sendMessage(player, "worlds_tp_unknown_world");
+                return CompletableFuture.completedFuture(false);
             }
-        }
 
-        player.setFallDistance(0);
-        PaperLib.teleportAsync(player, spawn);
-        Titles.clearTitle(player);
+            if (!player.isOnline()) {
+                return CompletableFuture.completedFuture(false);
+            }
+
+            // The world might have been unloaded and loaded again since the spawn was set
+            Location destination = spawn.clone();
+            destination.setWorld(bukkitWorld);
+            player.setFallDistance(0);
+            return PaperLib.teleportAsync(player, destination).thenApply(success -> {
+                Titles.clearTitle(player);
+                return success;
+            });
+        }).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.WARNING, "Unable to teleport " + player.getName() + " to the spawn", throwable);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Titles.clearTitle(player);
+                Messages.sendMessage(player, "worlds_tp_unknown_world");
+            });
+            return false;
+        });
 
         return true;
     }
@@ -100,11 +128,14 @@ public class SpawnManager {
         float yaw = Float.parseFloat(parts[4]);
         float pitch = Float.parseFloat(parts[5]);
 
+        // The spawn world is needed right away, so it is not left waiting in the startup queue
         BuildWorld buildWorld = worldManager.getBuildWorld(worldName);
         if (buildWorld == null) {
             buildWorld = new BuildWorld(worldName, "", UUID.randomUUID(), WorldType.UNKNOWN, System.currentTimeMillis(), false, null);
         }
-        buildWorld.load();
+        if (!worldManager.getWorldLoadScheduler().loadNow(buildWorld)) {
+            buildWorld.load();
+        }
 
         this.spawnName = worldName;
         this.spawn = new Location(Bukkit.getWorld(worldName), x, y, z, yaw, pitch);
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.config.ConfigValues;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Unloads the least recently used {@link BuildWorld}s when too many worlds are loaded at once,
+ * or when the heap is running low on memory.
+ * <p>
+ * The heap is watched using the collection usage threshold of the JVM's memory pools, so that the policy is only
+ * notified when the memory usage is still above the threshold after a garbage collection.
+ * Only worlds without players which may be unloaded at all are evicted.
+ *
+ * @author einTosti
+ */
+public class WorldEvictionPolicy implements NotificationListener {
+
+    private final BuildSystem plugin;
+    private final ConfigValues configValues;
+    private final WorldManager worldManager;
+
+    /**
+     * Loaded worlds in access order, the least recently used world comes first.
+     */
+    private final Map<BuildWorld, Boolean> recentlyUsed;
+    private final AtomicBoolean evictionScheduled;
+
+    /**
+     * The collection usage thresholds the memory pools had before they were changed. Since the thresholds are shared
+     * by the whole JVM, they are restored once the policy is stopped.
+     */
+    private final Map<MemoryPoolMXBean, Long> previousThresholds;
+
+    private boolean memoryListenerRegistered;
+
+    public WorldEvictionPolicy(BuildSystem plugin, WorldManager worldManager) {
+        this.plugin = plugin;
+        this.configValues = plugin.getConfigValues();
+        this.worldManager = worldManager;
+
+        this.recentlyUsed = new LinkedHashMap<>(16, 0.75f, true);
+        this.evictionScheduled = new AtomicBoolean();
+        this.previousThresholds = new LinkedHashMap<>();
+    }
+
+    /**
+     * Starts listening to memory notifications if {@code world.unload.heap-threshold} has been set.
+     */
+    public void start() {
+        if (memoryListenerRegistered) {
+            return;
+        }
+
+        int heapThreshold = configValues.getHeapThreshold();
+        if (heapThreshold <= 0 || heapThreshold >= 100) {
+            return;
+        }
+
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported() || max <= 0) {
+                continue;
+            }
+            previousThresholds.put(pool, pool.getCollectionUsageThreshold());
+            pool.setCollectionUsageThreshold(max / 100 * heapThreshold);
+        }
+
+        ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(this, null, null);
+        this.memoryListenerRegistered = true;
+    }
+
+    /**
+     * Stops listening to memory notifications and restores the previous collection usage thresholds.
+     */
+    public void stop() {
+        if (!memoryListenerRegistered) {
+            return;
+        }
+
+        try {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(this);
+        } catch (ListenerNotFoundException ignored) {
+        }
+
+        previousThresholds.forEach(MemoryPoolMXBean::setCollectionUsageThreshold);
+        previousThresholds.clear();
+        this.memoryListenerRegistered = false;
+    }
+
+    /**
+     * Marks the given world as the most recently used one.
+     *
+     * @param buildWorld The world
+     */
+    public void touch(BuildWorld buildWorld) {
+        recentlyUsed.put(buildWorld, Boolean.TRUE);
+    }
+
+    /**
+     * Forgets the given world, e.g. because it has been unloaded.
+     *
+     * @param buildWorld The world
+     */
+    public void remove(BuildWorld buildWorld) {
+        recentlyUsed.remove(buildWorld);
+    }
+
+    /**
+     * Evicts the least recently used worlds on the next tick if more worlds are loaded than allowed.
+     */
+    public void enforceLimit() {
+        int maxLoadedWorlds = configValues.getMaxLoadedWorlds();
+        if (maxLoadedWorlds < 0 || !configValues.isUnloadWorlds() || evictionScheduled.get()) {
+            return;
+        }
+
+        if (getLoadedWorldCount() > maxLoadedWorlds) {
+            scheduleEviction(false);
+        }
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(notification.getType())) {
+            scheduleEviction(true);
+        }
+    }
+
+    /**
+     * Can be called from any thread.
+     *
+     * @param memoryPressure Whether the eviction has been caused by the heap threshold being exceeded
+     */
+    private void scheduleEviction(boolean memoryPressure) {
+        if (!plugin.isEnabled() || !evictionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            evictionScheduled.set(false);
+            evict(memoryPressure);
+        });
+    }
+
+    private void evict(boolean memoryPressure) {
+        if (!configValues.isUnloadWorlds()) {
+            return;
+        }
+
+        int toEvict = 0;
+        int maxLoadedWorlds = configValues.getMaxLoadedWorlds();
+        if (maxLoadedWorlds >= 0) {
+            toEvict = getLoadedWorldCount() - maxLoadedWorlds;
+        }
+        if (memoryPressure) {
+            // Memory is only freed after the next collection, so only a few worlds are evicted at once
+            toEvict = Math.max(toEvict, Math.max(1, configValues.getMaxUnloadsPerSweep()));
+        }
+
+        List<BuildWorld> evicted = new ArrayList<>();
+        Iterator<BuildWorld> iterator = recentlyUsed.keySet().iterator();
+        while (iterator.hasNext() && evicted.size() < toEvict) {
+            BuildWorld buildWorld = iterator.next();
+            World bukkitWorld = buildWorld.getWorld();
+            if (bukkitWorld == null) {
+                iterator.remove();
+                continue;
+            }
+
+            if (!bukkitWorld.getPlayers().isEmpty() || !buildWorld.canUnload(bukkitWorld)
+                    || worldManager.getWorldUnloadPipeline().isUnloading(buildWorld)) {
+                continue;
+            }
+            evicted.add(buildWorld);
+        }
+
+        for (BuildWorld buildWorld : evicted) {
+            plugin.getLogger().info("*** Evicting least recently used world \"" + buildWorld.getName() + "\" ***");
+            buildWorld.forceUnload(true);
+        }
+    }
+
+    private int getLoadedWorldCount() {
+        int count = 0;
+        for (BuildWorld buildWorld : worldManager.getWorldRegistry().getLoadedWorlds()) {
+            if (!worldManager.getWorldUnloadPipeline().isUnloading(buildWorld)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
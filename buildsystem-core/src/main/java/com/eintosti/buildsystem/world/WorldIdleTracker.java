@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.config.ConfigValues;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unloads {@link BuildWorld}s which have not been used for the configured amount of time.
+ * <p>
+ * Instead of a task per world, only the time of the last activity is stored per world. Worlds are kept in a
+ * timing wheel whose slots each cover one sweep interval. A sweep only looks at the slots which have expired since
+ * the previous sweep. Recording activity never moves a world between slots; instead, a world whose deadline has been
+ * pushed back is put into the slot of its new deadline once its old slot is swept.
+ * All methods must be called from the main thread.
+ *
+ * @author einTosti
+ */
+public class WorldIdleTracker {
+
+    private static final int WHEEL_SIZE = 64;
+
+    private final BuildSystem plugin;
+    private final ConfigValues configValues;
+
+    private final Map<BuildWorld, Long> lastActivity;
+    private final Set<BuildWorld>[] wheel;
+    private final Set<BuildWorld> scheduled;
+
+    private long slotDuration;
+    private long lastSweptSlot;
+
+    @SuppressWarnings("unchecked")
+    public WorldIdleTracker(BuildSystem plugin) {
+        this.plugin = plugin;
+        this.configValues = plugin.getConfigValues();
+
+        this.lastActivity = new HashMap<>();
+        this.wheel = new Set[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new HashSet<>();
+        }
+        this.scheduled = new HashSet<>();
+    }
+
+    /**
+     * Starts sweeping for idle worlds every {@code world.unload.sweep-interval} seconds.
+     */
+    public void start() {
+        long interval = Math.max(1, configValues.getUnloadSweepInterval());
+        this.slotDuration = TimeUnit.SECONDS.toMillis(interval);
+        this.lastSweptSlot = System.currentTimeMillis() / slotDuration;
+        Bukkit.getScheduler().runTaskTimer(plugin, this::sweep, 20L * interval, 20L * interval);
+    }
+
+    /**
+     * Records activity in the given world, which postpones its unload.
+     *
+     * @param buildWorld The world
+     */
+    public void touch(BuildWorld buildWorld) {
+        if (slotDuration == 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        lastActivity.put(buildWorld, now);
+        if (!scheduled.contains(buildWorld)) {
+            schedule(buildWorld, now + getIdleTime());
+        }
+    }
+
+    /**
+     * Stops tracking the given world, e.g. because it has been unloaded.
+     *
+     * @param buildWorld The world
+     */
+    public void untrack(BuildWorld buildWorld) {
+        lastActivity.remove(buildWorld);
+    }
+
+    private long getIdleTime() {
+        return TimeUnit.SECONDS.toMillis(configValues.getTimeUntilUnload());
+    }
+
+    private void schedule(BuildWorld buildWorld, long deadline) {
+        // Round up, so that a world is never swept before its deadline
+        long slot = Math.max((deadline + slotDuration - 1) / slotDuration, lastSweptSlot + 1);
+        wheel[(int) (slot % WHEEL_SIZE)].add(buildWorld);
+        scheduled.add(buildWorld);
+    }
+
+    private void sweep() {
+        long now = System.currentTimeMillis();
+        long currentSlot = now / slotDuration;
+        long firstSlot = Math.max(lastSweptSlot + 1, currentSlot - WHEEL_SIZE + 1);
+        this.lastSweptSlot = currentSlot;
+
+        if (!configValues.isUnloadWorlds()) {
+            return;
+        }
+
+        int maxUnloads = configValues.getMaxUnloadsPerSweep();
+        int unloads = 0;
+
+        for (long slot = firstSlot; slot <= currentSlot; slot++) {
+            Set<BuildWorld> bucket = wheel[(int) (slot % WHEEL_SIZE)];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+
+            BuildWorld[] buildWorlds = bucket.toArray(new BuildWorld[0]);
+            bucket.clear();
+
+            for (BuildWorld buildWorld : buildWorlds) {
+                scheduled.remove(buildWorld);
+
+                Long activity = lastActivity.get(buildWorld);
+                if (activity == null) {
+                    continue;
+                }
+
+                long deadline = activity + getIdleTime();
+                if (deadline > now) {
+                    schedule(buildWorld, deadline);
+                    continue;
+                }
+
+                World bukkitWorld = buildWorld.getWorld();
+                if (bukkitWorld == null) {
+                    untrack(buildWorld);
+                    continue;
+                }
+
+                if (!bukkitWorld.getPlayers().isEmpty()) {
+                    touch(buildWorld);
+                    continue;
+                }
+
+                if (maxUnloads > 0 && unloads >= maxUnloads) {
+                    schedule(buildWorld, now + slotDuration);
+                    continue;
+                }
+
+                untrack(buildWorld);
+                buildWorld.forceUnload(true);
+                unloads++;
+            }
+        }
+    }
+}
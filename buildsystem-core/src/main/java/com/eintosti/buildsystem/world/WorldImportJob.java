@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.Messages;
+import com.eintosti.buildsystem.util.FileUtils;
+import com.eintosti.buildsystem.world.data.LevelData;
+import com.eintosti.buildsystem.world.data.WorldType;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.File;
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Imports a list of worlds in two stages. First, the worlds are validated and their {@link LevelData} is read
+ * asynchronously, which determines the settings the worlds are created with.
+ * Then, the worlds are created on the main thread, one per tick at most.
+ * <p>
+ * The pace of the import adapts to the load of the server: The time between two ticks is measured, and a world
+ * is only created while the average TPS derived from it is at least {@code world.import-all.min-tps}. Since creating
+ * a world makes the tick take longer, the import automatically waits for the server to recover afterwards.
+ *
+ * @author einTosti
+ */
+public class WorldImportJob {
+
+    private static final Pattern INVALID_CHARACTER = Pattern.compile("[^A-Za-z\\d/_-]");
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(10);
+    private static final double TICK_TIME_SMOOTHING = 0.2;
+
+    private final BuildSystem plugin;
+    private final WorldManager worldManager;
+    private final Player player;
+    private final String[] worldNames;
+
+    private final Deque<ImportCandidate> candidates;
+    private final List<String> skipped;
+    private final List<String> failed;
+
+    private BukkitTask task;
+    private boolean paused;
+    private boolean cancelled;
+    private int imported;
+    private long lastTick;
+    private double averageTickTime;
+    private long lastReport;
+
+    public WorldImportJob(BuildSystem plugin, WorldManager worldManager, Player player, String[] worldNames) {
+        this.plugin = plugin;
+        this.worldManager = worldManager;
+        this.player = player;
+        this.worldNames = worldNames;
+
+        this.candidates = new ArrayDeque<>();
+        this.skipped = new ArrayList<>();
+        this.failed = new ArrayList<>();
+    }
+
+    /**
+     * Starts validating the worlds, after which they are imported.
+     *
+     * @param executor The executor on which the worlds are validated
+     */
+    public void start(Executor executor) {
+        Messages.sendMessage(player, "worlds_importall_started", new AbstractMap.SimpleEntry<>("%amount%", String.valueOf(worldNames.length)));
+
+        CompletableFuture.supplyAsync(this::validate, executor).whenComplete((validated, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (throwable != null) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to prepare the import of worlds", throwable);
+                finish();
+                return;
+            }
+
+            validated.forEach(this::acceptValidation);
+            if (cancelled) {
+                finish();
+                return;
+            }
+
+            this.lastTick = System.nanoTime();
+            this.lastReport = lastTick;
+            this.averageTickTime = 50;
+            this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }));
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    /**
+     * Cancels the import. Worlds which have already been imported are kept.
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Runs asynchronously, so the results may only be applied on the main thread.
+     */
+    private List<ValidationResult> validate() {
+        List<ValidationResult> results = new ArrayList<>(worldNames.length);
+        for (String worldName : worldNames) {
+            Matcher matcher = INVALID_CHARACTER.matcher(worldName);
+            if (matcher.find()) {
+                results.add(ValidationResult.invalid(worldName, matcher.group()));
+                continue;
+            }
+
+            File worldFolder = new File(Bukkit.getWorldContainer(), worldName);
+            try {
+                LevelData levelData = LevelData.read(worldFolder);
+                if (levelData == null) {
+                    results.add(ValidationResult.notFound(worldName));
+                    continue;
+                }
+
+                results.add(ValidationResult.valid(new ImportCandidate(worldName, levelData.getWorldType(), FileUtils.getDirectoryCreation(worldFolder))));
+            } catch (Exception e) {
+                // A single broken world must not abort the whole import
+                plugin.getLogger().log(Level.WARNING, "Unable to validate world \"" + worldName + "\"", e);
+                results.add(ValidationResult.notFound(worldName));
+            }
+        }
+        return results;
+    }
+
+    private void acceptValidation(ValidationResult result) {
+        if (result.candidate != null) {
+            candidates.add(result.candidate);
+            return;
+        }
+
+        skipped.add(result.worldName);
+        if (result.invalidCharacter != null) {
+            Messages.sendMessage(player, "worlds_importall_invalid_character",
+                    new AbstractMap.SimpleEntry<>("%world%", result.worldName),
+                    new AbstractMap.SimpleEntry<>("%char%", result.invalidCharacter)
+            );
+        } else {
+            Messages.sendMessage(player, "worlds_importall_world_not_found", new AbstractMap.SimpleEntry<>("%world%", result.worldName));
+        }
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        double tickTime = (now - lastTick) / 1_000_000.0;
+        this.averageTickTime += (tickTime - averageTickTime) * TICK_TIME_SMOOTHING;
+        this.lastTick = now;
+
+        if (cancelled || candidates.isEmpty()) {
+            finish();
+            return;
+        }
+
+        if (now - lastReport >= PROGRESS_INTERVAL) {
+            this.lastReport = now;
+            Messages.sendMessage(player, "worlds_importall_progress",
+                    new AbstractMap.SimpleEntry<>("%processed%", imported + skipped.size() + failed.size()),
+                    new AbstractMap.SimpleEntry<>("%total%", worldNames.length)
+            );
+        }
+
+        if (paused || averageTickTime > 1000.0 / plugin.getConfigValues().getImportMinTps()) {
+            return;
+        }
+
+        importWorld(candidates.poll());
+    }
+
+    private void importWorld(ImportCandidate candidate) {
+        String worldName = candidate.worldName;
+        if (worldManager.getBuildWorld(worldName) != null) {
+            skipped.add(worldName);
+            Messages.sendMessage(player, "worlds_importall_world_already_imported", new AbstractMap.SimpleEntry<>("%world%", worldName));
+            return;
+        }
+
+        BuildWorld buildWorld = new BuildWorld(worldName, "-", null, WorldType.IMPORTED, candidate.creation, false, null);
+        World bukkitWorld;
+        try {
+            bukkitWorld = new BuildWorldCreator(plugin, buildWorld).setType(candidate.worldType).generateBukkitWorld();
+        } catch (Exception e) {
+            plugin.getLogger().log(Level.SEVERE, "Unable to import world \"" + worldName + "\"", e);
+            bukkitWorld = null;
+        }
+
+        if (bukkitWorld == null) {
+            failed.add(worldName);
+            Messages.sendMessage(player, "worlds_importall_world_failed", new AbstractMap.SimpleEntry<>("%world%", worldName));
+            return;
+        }
+
+        worldManager.addBuildWorld(buildWorld);
+        imported++;
+        Messages.sendMessage(player, "worlds_importall_world_imported", new AbstractMap.SimpleEntry<>("%world%", worldName));
+    }
+
+    private void finish() {
+        if (task != null) {
+            task.cancel();
+            this.task = null;
+        }
+        worldManager.finishImport(this);
+
+        Messages.sendMessage(player, cancelled ? "worlds_importall_cancelled" : "worlds_importall_finished");
+        Messages.sendMessage(player, "worlds_importall_summary",
+                new AbstractMap.SimpleEntry<>("%imported%", imported),
+                new AbstractMap.SimpleEntry<>("%skipped%", skipped.size()),
+                new AbstractMap.SimpleEntry<>("%failed%", failed.size())
+        );
+        if (!failed.isEmpty()) {
+            Messages.sendMessage(player, "worlds_importall_failed_worlds", new AbstractMap.SimpleEntry<>("%worlds%", String.join(", ", failed)));
+        }
+    }
+
+    private static class ImportCandidate {
+
+        private final String worldName;
+        private final WorldType worldType;
+        private final long creation;
+
+        private ImportCandidate(String worldName, WorldType worldType, long creation) {
+            this.worldName = worldName;
+            this.worldType = worldType;
+            this.creation = creation;
+        }
+    }
+
+    private static class ValidationResult {
+
+        private final String worldName;
+        private final ImportCandidate candidate;
+        private final String invalidCharacter;
+
+        private ValidationResult(String worldName, ImportCandidate candidate, String invalidCharacter) {
+            this.worldName = worldName;
+            this.candidate = candidate;
+            this.invalidCharacter = invalidCharacter;
+        }
+
+        private static ValidationResult valid(ImportCandidate candidate) {
+            return new ValidationResult(candidate.worldName, candidate, null);
+        }
+
+        private static ValidationResult invalid(String worldName, String invalidCharacter) {
+            return new ValidationResult(worldName, null, invalidCharacter);
+        }
+
+        private static ValidationResult notFound(String worldName) {
+            return new ValidationResult(worldName, null, null);
+        }
+    }
+}
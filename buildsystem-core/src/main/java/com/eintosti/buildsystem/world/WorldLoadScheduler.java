@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.cryptomorin.xseries.XMaterial;
+import com.eintosti.buildsystem.BuildSystem;
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Loads the {@link BuildWorld}s on startup over multiple ticks instead of all at once, so that the server
+ * stays responsive while the worlds are being loaded.
+ * <p>
+ * Every tick, worlds are loaded until the configured time budget is used up. At least one world is loaded per tick.
+ * Worlds which are needed sooner, e.g. because a player is about to join or teleport into them, can be moved
+ * to the front of the queue. All methods must be called from the main thread.
+ *
+ * @author einTosti
+ */
+public class WorldLoadScheduler {
+
+    private static final long PROGRESS_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+    private final BuildSystem plugin;
+    private final WorldManager worldManager;
+    private final Logger logger;
+
+    /**
+     * Prioritized worlds are added to the front again, so a world may be contained multiple times.
+     * {@link #queued} decides whether an entry still has to be loaded.
+     */
+    private final Deque<BuildWorld> queue;
+    private final Set<BuildWorld> queued;
+
+    private BukkitTask task;
+    private int total;
+    private int processed;
+    private long startTime;
+    private long lastReport;
+
+    public WorldLoadScheduler(BuildSystem plugin, WorldManager worldManager) {
+        this.plugin = plugin;
+        this.worldManager = worldManager;
+        this.logger = plugin.getLogger();
+        this.queue = new ArrayDeque<>();
+        this.queued = new HashSet<>();
+    }
+
+    /**
+     * Queues the given worlds and starts loading them.
+     *
+     * @param buildWorlds The worlds to load
+     */
+    public void start(Collection<BuildWorld> buildWorlds) {
+        for (BuildWorld buildWorld : buildWorlds) {
+            if (queued.add(buildWorld)) {
+                queue.addLast(buildWorld);
+            }
+        }
+
+        this.total = queued.size();
+        this.processed = 0;
+        if (total == 0 || task != null) {
+            return;
+        }
+
+        logger.info("*** " + total + " worlds will be loaded now ***");
+        this.startTime = System.nanoTime();
+        this.lastReport = startTime;
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    /**
+     * Gets whether the given world is still waiting to be loaded.
+     *
+     * @param buildWorld The world
+     * @return {@code true} if the world is queued, otherwise {@code false}
+     */
+    public boolean isQueued(BuildWorld buildWorld) {
+        return queued.contains(buildWorld);
+    }
+
+    /**
+     * Moves a queued world to the front of the queue, so that it is loaded with the next tick.
+     *
+     * @param buildWorld The world
+     * @return {@code true} if the world was queued, otherwise {@code false}
+     */
+    public boolean prioritize(BuildWorld buildWorld) {
+        if (!queued.contains(buildWorld)) {
+            return false;
+        }
+
+        queue.addFirst(buildWorld);
+        return true;
+    }
+
+    /**
+     * Loads a queued world right away instead of waiting for its turn.
+     *
+     * @param buildWorld The world
+     * @return {@code true} if the world was queued and has now been loaded, otherwise {@code false}
+     */
+    public boolean loadNow(BuildWorld buildWorld) {
+        if (!queued.contains(buildWorld)) {
+            return false;
+        }
+
+        load(buildWorld);
+        return true;
+    }
+
+    private void tick() {
+        long budget = TimeUnit.MILLISECONDS.toNanos(plugin.getConfigValues().getWorldLoadTickBudget());
+        long tickStart = System.nanoTime();
+
+        do {
+            BuildWorld buildWorld = queue.pollFirst();
+            if (buildWorld == null) {
+                finish();
+                return;
+            }
+
+            if (queued.contains(buildWorld)) {
+                load(buildWorld);
+            }
+        } while (System.nanoTime() - tickStart < budget);
+
+        long now = System.nanoTime();
+        if (now - lastReport >= PROGRESS_INTERVAL) {
+            this.lastReport = now;
+            logger.info("Loading worlds... " + processed + "/" + total + " (" + (processed * 100 / total) + "%)");
+        }
+    }
+
+    private void load(BuildWorld buildWorld) {
+        queued.remove(buildWorld);
+        this.processed++;
+
+        // The world might have been deleted or loaded otherwise in the meantime
+        if (!worldManager.getWorldRegistry().contains(buildWorld) || buildWorld.getWorld() != null) {
+            return;
+        }
+
+        String worldName = buildWorld.getName();
+        new BuildWorldCreator(plugin, buildWorld).generateBukkitWorld();
+
+        if (buildWorld.getMaterial() == XMaterial.PLAYER_HEAD) {
+            plugin.getSkullCache().cacheSkull(worldName);
+        }
+
+        logger.info("✔ World loaded: " + worldName);
+    }
+
+    private void finish() {
+        task.cancel();
+        this.task = null;
+
+        long duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info("*** All worlds have been loaded (" + duration + "ms) ***");
+    }
+}
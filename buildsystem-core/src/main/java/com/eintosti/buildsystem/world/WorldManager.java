@@ -13,40 +13,53 @@ import com.cryptomorin.xseries.messages.Titles;
 import com.eintosti.buildsystem.BuildSystem;
 import com.eintosti.buildsystem.Messages;
 import com.eintosti.buildsystem.config.ConfigValues;
-import com.eintosti.buildsystem.config.WorldConfig;
 import com.eintosti.buildsystem.navigator.world.FilteredWorldsInventory.Visibility;
+import com.eintosti.buildsystem.storage.WorldStorage;
+import com.eintosti.buildsystem.util.DirectoryCopyJob;
 import com.eintosti.buildsystem.util.FileUtils;
 import com.eintosti.buildsystem.util.UUIDFetcher;
 import com.eintosti.buildsystem.util.external.PlayerChatInput;
+import com.eintosti.buildsystem.world.data.LevelData;
 import com.eintosti.buildsystem.world.data.WorldStatus;
 import com.eintosti.buildsystem.world.data.WorldType;
 import com.eintosti.buildsystem.world.generator.CustomGenerator;
 import com.eintosti.buildsystem.world.generator.Generator;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.papermc.lib.PaperLib;
 import org.bukkit.Bukkit;
 import org.bukkit.Difficulty;
 import org.bukkit.Location;
-import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
-import org.bukkit.block.BlockFace;
 import org.bukkit.configuration.ConfigurationSection;
-import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.generator.ChunkGenerator;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 /**
@@ -54,18 +67,137 @@ import java.util.stream.Collectors;
  */
 public class WorldManager {
 
+    private static final int SAFE_SPAWN_RADIUS = 8;
+    private static final long FILE_EXECUTOR_SHUTDOWN_TIMEOUT = 60;
+
     private final BuildSystem plugin;
     private final ConfigValues configValues;
-    private final WorldConfig worldConfig;
-
-    private final List<BuildWorld> buildWorlds;
+    private final WorldStorage worldStorage;
+
+    private final BuildWorldRegistry worldRegistry;
+    private final WorldLoadScheduler worldLoadScheduler;
+    private final WorldUnloadPipeline worldUnloadPipeline;
+    private final WorldIdleTracker worldIdleTracker;
+    private final WorldEvictionPolicy worldEvictionPolicy;
+    private final Set<BuildWorld> dirtyWorlds;
+    private final Map<BuildWorld, CompletableFuture<World>> pendingLoads;
+    private final SafeLocationFinder safeLocationFinder;
+    private final ExecutorService fileExecutor;
+    private final WorldTombstones worldTombstones;
+    private final ImportableWorldIndex importableWorldIndex;
+
+    private WorldImportJob importJob;
 
     public WorldManager(BuildSystem plugin) {
         this.plugin = plugin;
         this.configValues = plugin.getConfigValues();
-        this.worldConfig = new WorldConfig(plugin);
+        this.worldStorage = plugin.getStorageManager().getWorldStorage();
+
+        this.worldRegistry = new BuildWorldRegistry();
+        this.worldLoadScheduler = new WorldLoadScheduler(plugin, this);
+        this.worldUnloadPipeline = new WorldUnloadPipeline(plugin);
+        this.worldIdleTracker = new WorldIdleTracker(plugin);
+        this.worldEvictionPolicy = new WorldEvictionPolicy(plugin, this);
+        this.dirtyWorlds = new LinkedHashSet<>();
+        this.pendingLoads = new HashMap<>();
+        this.safeLocationFinder = new SafeLocationFinder(plugin);
+        this.fileExecutor = Executors.newFixedThreadPool(
+                Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors())),
+                new ThreadFactoryBuilder().setNameFormat("BuildSystem File Worker #%d").setDaemon(true).build()
+        );
+        this.worldTombstones = new WorldTombstones(plugin, fileExecutor);
+        this.importableWorldIndex = new ImportableWorldIndex(plugin, this);
+    }
+
+    /**
+     * Gets the scheduler which loads all {@link BuildWorld}s after startup.
+     *
+     * @return The world load scheduler
+     */
+    public WorldLoadScheduler getWorldLoadScheduler() {
+        return worldLoadScheduler;
+    }
+
+    /**
+     * Gets the finder which searches for locations at which a player can safely stand.
+     *
+     * @return The safe location finder
+     */
+    public SafeLocationFinder getSafeLocationFinder() {
+        return safeLocationFinder;
+    }
 
-        this.buildWorlds = new ArrayList<>();
+    /**
+     * Gets the bounded executor on which world files are copied, so that large copies do not block the main thread
+     * and do not occupy all threads of the server's asynchronous scheduler.
+     *
+     * @return The file executor
+     */
+    public ExecutorService getFileExecutor() {
+        return fileExecutor;
+    }
+
+    /**
+     * Stops accepting new file operations and waits for the running ones to finish. Since the file workers are
+     * daemon threads, a copy which is still running once the server stops would otherwise be left half-finished.
+     */
+    public void shutdownFileExecutor() {
+        fileExecutor.shutdown();
+        try {
+            if (!fileExecutor.awaitTermination(FILE_EXECUTOR_SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("File operations did not finish within " + FILE_EXECUTOR_SHUTDOWN_TIMEOUT + " seconds and have been interrupted");
+                fileExecutor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            fileExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the index of all world directories which can be imported.
+     *
+     * @return The importable world index
+     */
+    public ImportableWorldIndex getImportableWorldIndex() {
+        return importableWorldIndex;
+    }
+
+    /**
+     * Gets the pipeline which unloads {@link BuildWorld}s over multiple ticks.
+     *
+     * @return The world unload pipeline
+     */
+    public WorldUnloadPipeline getWorldUnloadPipeline() {
+        return worldUnloadPipeline;
+    }
+
+    /**
+     * Gets the tracker which unloads {@link BuildWorld}s that have not been used for a while.
+     *
+     * @return The world idle tracker
+     */
+    public WorldIdleTracker getWorldIdleTracker() {
+        return worldIdleTracker;
+    }
+
+    /**
+     * Gets the policy which unloads the least recently used {@link BuildWorld}s when too many worlds are loaded
+     * or the heap is running low on memory.
+     *
+     * @return The world eviction policy
+     */
+    public WorldEvictionPolicy getWorldEvictionPolicy() {
+        return worldEvictionPolicy;
+    }
+
+    /**
+     * Gets the registry which holds all {@link BuildWorld}s.
+     *
+     * @return The world registry
+     */
+    public BuildWorldRegistry getWorldRegistry() {
+        return worldRegistry;
     }
 
     /**
@@ -75,41 +207,58 @@ public class WorldManager {
      * @return The world object if one was found, {@code null} otherwise
      */
     public BuildWorld getBuildWorld(String worldName) {
-        return this.buildWorlds.stream()
-                .filter(buildWorld -> buildWorld.getName().equalsIgnoreCase(worldName))
-                .findFirst()
-                .orElse(null);
+        return worldRegistry.get(worldName);
     }
 
     /**
      * Gets the {@link BuildWorld} by the given {@link World}.
+     * <p>
+     * Only loaded worlds are bound to their build world, which makes this lookup suitable for frequently called events.
      *
      * @param world The bukkit world object
      * @return The world object if one was found, {@code null} otherwise
      */
     public BuildWorld getBuildWorld(World world) {
-        return getBuildWorld(world.getName());
+        return worldRegistry.get(world);
     }
 
     /**
-     * Gets a list of all {@link BuildWorld}s.
+     * Gets all {@link BuildWorld}s.
      *
-     * @return A list of all worlds
+     * @return An unmodifiable view of all worlds
      */
-    public List<BuildWorld> getBuildWorlds() {
-        return buildWorlds;
+    public Collection<BuildWorld> getBuildWorlds() {
+        return worldRegistry.getWorlds();
     }
 
     /**
-     * Gets a list of all {@link BuildWorld}s created by the given player.
+     * Registers a newly created or imported {@link BuildWorld}.
+     *
+     * @param buildWorld The world to add
+     */
+    public void addBuildWorld(BuildWorld buildWorld) {
+        registerBuildWorld(buildWorld);
+        markDirty(buildWorld);
+    }
+
+    private void registerBuildWorld(BuildWorld buildWorld) {
+        worldRegistry.register(buildWorld);
+
+        World bukkitWorld = buildWorld.getWorld();
+        if (bukkitWorld != null) {
+            worldRegistry.bind(bukkitWorld);
+            plugin.getListenerGate().update();
+        }
+    }
+
+    /**
+     * Gets all {@link BuildWorld}s created by the given player.
      *
      * @param player The player who created the world
-     * @return A list of all worlds created by the given player.
+     * @return A collection of all worlds created by the given player.
      */
-    public List<BuildWorld> getBuildWorldsCreatedByPlayer(Player player) {
-        return getBuildWorlds().stream()
-                .filter(buildWorld -> buildWorld.isCreator(player))
-                .collect(Collectors.toList());
+    public Collection<BuildWorld> getBuildWorldsCreatedByPlayer(Player player) {
+        return worldRegistry.getWorldsCreatedBy(player.getUniqueId());
     }
 
     /**
@@ -208,13 +357,17 @@ public class WorldManager {
 
     /**
      * Import a {@link BuildWorld} from a world directory.
+     * <p>
+     * The world's {@link LevelData} is read asynchronously. Unless a generator is given, the world is created with
+     * the settings which match its {@code level.dat} most closely, falling back to a void world if the settings
+     * are ambiguous.
      *
      * @param player        The player who is creating the world
      * @param worldName     Name of the world that the chunk generator should be applied to.
-     * @param generator     The generator type used by the world
+     * @param generator     The generator type used by the world, or {@code null} to detect it
      * @param generatorName The name of the custom generator if generator type is {@link Generator#CUSTOM}
      */
-    public void importWorld(Player player, String worldName, Generator generator, String generatorName) {
+    public void importWorld(Player player, String worldName, @Nullable Generator generator, String generatorName) {
         for (String charString : worldName.split("")) {
             if (charString.matches("[^A-Za-z\\d/_-]")) {
                 Messages.sendMessage(player, "worlds_import_invalid_character",
@@ -236,39 +389,73 @@ public class WorldManager {
             return;
         }
 
-        ChunkGenerator chunkGenerator = null;
+        CustomGenerator customGenerator = null;
         if (generator == Generator.CUSTOM) {
             String[] generatorInfo = generatorName.split(":");
             if (generatorInfo.length == 1) {
                 generatorInfo = new String[]{generatorInfo[0], generatorInfo[0]};
             }
 
-            chunkGenerator = getChunkGenerator(generatorInfo[0], generatorInfo[1], worldName);
+            ChunkGenerator chunkGenerator = getChunkGenerator(generatorInfo[0], generatorInfo[1], worldName);
             if (chunkGenerator == null) {
                 Messages.sendMessage(player, "worlds_import_unknown_generator");
                 return;
             }
+            customGenerator = new CustomGenerator(generatorName, chunkGenerator);
         }
 
         Messages.sendMessage(player, "worlds_import_started", new AbstractMap.SimpleEntry<>("%world%", worldName));
-        BuildWorld buildWorld = new BuildWorld(
-                worldName,
-                "-",
-                null,
-                WorldType.IMPORTED,
-                FileUtils.getDirectoryCreation(file),
-                false,
-                null
-        );
-        buildWorlds.add(buildWorld);
-        new BuildWorldCreator(plugin, buildWorld)
-                .setCustomGenerator(new CustomGenerator(generatorName, chunkGenerator))
-                .createWorld(player);
-        Messages.sendMessage(player, "worlds_import_finished");
+        CustomGenerator finalCustomGenerator = customGenerator;
+        CompletableFuture.supplyAsync(() -> LevelData.read(file), fileExecutor).whenComplete((levelData, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+            if (levelData == null) {
+                Messages.sendMessage(player, "worlds_import_unknown_world");
+                return;
+            }
 
-        if (configValues.isTeleportAfterCreation()) {
-            teleport(player, buildWorld);
-        }
+            if (getBuildWorld(worldName) != null) {
+                Messages.sendMessage(player, "worlds_world_exists");
+                return;
+            }
+
+            WorldType worldType;
+            if (generator == null) {
+                worldType = levelData.getWorldType();
+            } else if (generator == Generator.CUSTOM) {
+                worldType = WorldType.CUSTOM;
+            } else {
+                worldType = generator.getWorldType();
+            }
+
+            BuildWorld buildWorld = new BuildWorld(
+                    worldName,
+                    "-",
+                    null,
+                    WorldType.IMPORTED,
+                    FileUtils.getDirectoryCreation(file),
+                    false,
+                    finalCustomGenerator
+            );
+
+            World bukkitWorld;
+            try {
+                bukkitWorld = new BuildWorldCreator(plugin, buildWorld).setType(worldType).generateBukkitWorld();
+            } catch (Exception e) {
+                plugin.getLogger().log(Level.SEVERE, "Unable to import world \"" + worldName + "\"", e);
+                bukkitWorld = null;
+            }
+
+            if (bukkitWorld == null) {
+                Messages.sendMessage(player, "worlds_import_failed", new AbstractMap.SimpleEntry<>("%world%", worldName));
+                return;
+            }
+
+            addBuildWorld(buildWorld);
+            Messages.sendMessage(player, "worlds_import_finished");
+
+            if (configValues.isTeleportAfterCreation() && player.isOnline()) {
+                teleport(player, buildWorld);
+            }
+        }));
     }
 
     /**
@@ -293,51 +480,36 @@ public class WorldManager {
 
     /**
      * Import all {@link BuildWorld} from a given list of world names.
+     * Only one import can run at a time.
      *
      * @param player    The player who is creating the world
      * @param worldList The list of world to be imported
+     * @see WorldImportJob
      */
     public void importWorlds(Player player, String[] worldList) {
-        int worlds = worldList.length;
-        int delay = configValues.getImportDelay();
-
-        Messages.sendMessage(player, "worlds_importall_started", new AbstractMap.SimpleEntry<>("%amount%", String.valueOf(worlds)));
-        Messages.sendMessage(player, "worlds_importall_delay", new AbstractMap.SimpleEntry<>("%delay%", String.valueOf(delay)));
-
-        AtomicInteger worldsImported = new AtomicInteger(0);
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                int i = worldsImported.getAndIncrement();
-
-                String worldName = worldList[i];
-                for (String charString : worldName.split("")) {
-                    if (charString.matches("[^A-Za-z\\d/_-]")) {
-                        Messages.sendMessage(player, "worlds_importall_invalid_character",
-                                new AbstractMap.SimpleEntry<>("%world%", worldName),
-                                new AbstractMap.SimpleEntry<>("%char%", charString)
-                        );
-                        return;
-                    }
-                }
+        if (importJob != null) {
+            Messages.sendMessage(player, "worlds_importall_running");
+            return;
+        }
 
-                if (getBuildWorld(worldName) != null) {
-                    Messages.sendMessage(player, "worlds_importall_world_already_imported", new AbstractMap.SimpleEntry<>("%world%", worldName));
-                    return;
-                }
+        this.importJob = new WorldImportJob(plugin, this, player, worldList);
+        importJob.start(fileExecutor);
+    }
 
-                long creation = FileUtils.getDirectoryCreation(new File(Bukkit.getWorldContainer(), worldName));
-                BuildWorld buildWorld = new BuildWorld(worldName, "-", null, WorldType.IMPORTED, creation, false, null);
-                buildWorlds.add(buildWorld);
-                new BuildWorldCreator(plugin, buildWorld).setType(WorldType.VOID).generateBukkitWorld();
-                Messages.sendMessage(player, "worlds_importall_world_imported", new AbstractMap.SimpleEntry<>("%world%", worldName));
+    /**
+     * Gets the import which is currently running.
+     *
+     * @return The running import, or {@code null} if no import is running
+     */
+    @Nullable
+    public WorldImportJob getImportJob() {
+        return importJob;
+    }
 
-                if (worldsImported.get() >= worlds) {
-                    this.cancel();
-                    Messages.sendMessage(player, "worlds_importall_finished");
-                }
-            }
-        }.runTaskTimer(plugin, 0, 20L * delay);
+    void finishImport(WorldImportJob job) {
+        if (importJob == job) {
+            this.importJob = null;
+        }
     }
 
     /**
@@ -348,7 +520,7 @@ public class WorldManager {
      * @param buildWorld The world to be deleted
      */
     public void deleteWorld(Player player, BuildWorld buildWorld) {
-        if (!buildWorlds.contains(buildWorld)) {
+        if (!worldRegistry.contains(buildWorld)) {
             Messages.sendMessage(player, "worlds_delete_unknown_world");
             return;
         }
@@ -362,11 +534,23 @@ public class WorldManager {
 
         Messages.sendMessage(player, "worlds_delete_started", new AbstractMap.SimpleEntry<>("%world%", worldName));
         removePlayersFromWorld(worldName, Messages.getString("worlds_delete_players_world"));
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            unimportWorld(buildWorld, false);
-            FileUtils.deleteDirectory(deleteFolder);
-            Messages.sendMessage(player, "worlds_delete_finished");
-        }, 20L);
+        Bukkit.getScheduler().runTaskLater(plugin, () -> unimportWorld(buildWorld, false, unloaded -> {
+            if (!unloaded) {
+                // The directory is still in use, so the world is kept
+                plugin.getLogger().warning("Unable to delete world \"" + worldName + "\" since it could not be unloaded");
+                Messages.sendMessage(player, "worlds_delete_error");
+                return;
+            }
+
+            worldTombstones.delete(deleteFolder).whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                if (throwable != null) {
+                    plugin.getLogger().log(Level.WARNING, "Unable to delete the directory of world \"" + worldName + "\"", throwable);
+                    Messages.sendMessage(player, "worlds_delete_error");
+                    return;
+                }
+                Messages.sendMessage(player, "worlds_delete_finished");
+            }));
+        }), 20L);
     }
 
     /**
@@ -377,12 +561,32 @@ public class WorldManager {
      * @param save       Should the world be saved before unimporting
      */
     public void unimportWorld(BuildWorld buildWorld, boolean save) {
-        buildWorld.forceUnload(save);
-        this.buildWorlds.remove(buildWorld);
+        unimportWorld(buildWorld, save, null);
+    }
+
+    /**
+     * Unimport an existing {@link BuildWorld}.
+     * <p>
+     * The world is only unregistered and removed from the storage once it has been unloaded. If the unload fails
+     * or is cancelled, the world is kept.
+     *
+     * @param buildWorld The build world object
+     * @param save       Should the world be saved before unimporting
+     * @param onComplete Called with whether the world has been unloaded and unimported, may be {@code null}
+     * @see BuildWorld#forceUnload(boolean, Consumer)
+     */
+    public void unimportWorld(BuildWorld buildWorld, boolean save, @Nullable Consumer<Boolean> onComplete) {
         removePlayersFromWorld(buildWorld.getName(), Messages.getString("worlds_unimport_players_world"));
-        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            this.worldConfig.getFile().set("worlds." + buildWorld.getName(), null);
-            this.worldConfig.saveFile();
+        buildWorld.forceUnload(save, unloaded -> {
+            if (unloaded) {
+                this.worldRegistry.unregister(buildWorld);
+                this.dirtyWorlds.remove(buildWorld);
+                this.worldStorage.removeWorld(buildWorld.getName());
+            }
+
+            if (onComplete != null) {
+                onComplete.accept(unloaded);
+            }
         });
     }
 
@@ -457,6 +661,13 @@ public class WorldManager {
             return;
         }
 
+        File oldWorldFile = new File(Bukkit.getWorldContainer(), oldName);
+        File newWorldFile = new File(Bukkit.getWorldContainer(), parsedNewName);
+        if (getBuildWorld(parsedNewName) != null || newWorldFile.exists()) {
+            Messages.sendMessage(player, "worlds_world_exists");
+            return;
+        }
+
         if (Bukkit.getWorld(oldName) == null && !buildWorld.isLoaded()) {
             buildWorld.load();
         }
@@ -469,113 +680,189 @@ public class WorldManager {
 
         List<Player> removedPlayers = removePlayersFromWorld(oldName, Messages.getString("worlds_rename_players_world"));
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            oldWorld.save();
-            Bukkit.getServer().unloadWorld(oldWorld, true);
+            Location spawnLocation = oldWorld.getSpawnLocation();
+            SpawnManager spawnManager = plugin.getSpawnManager();
+            boolean isSpawnWorld = spawnManager.spawnExists() && Objects.equals(spawnManager.getSpawnWorld(), oldWorld);
 
-            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-                worldConfig.getFile().set("worlds." + parsedNewName, worldConfig.getFile().getConfigurationSection("worlds." + buildWorld.getName()));
-                worldConfig.getFile().set("worlds." + oldName, null);
-            });
+            worldUnloadPipeline.cancel(buildWorld);
+            if (!buildWorld.completeUnload(oldWorld, true)) {
+                Messages.sendMessage(player, "worlds_rename_failed");
+                return;
+            }
 
-            File oldWorldFile = new File(Bukkit.getWorldContainer(), oldName);
-            File newWorldFile = new File(Bukkit.getWorldContainer(), parsedNewName);
-            FileUtils.copy(oldWorldFile, newWorldFile);
-            FileUtils.deleteDirectory(oldWorldFile);
+            // The world must not be loaded or modified under its old name while its directory is being moved
+            worldRegistry.unregister(buildWorld);
 
-            buildWorld.setName(parsedNewName);
-            World newWorld = new BuildWorldCreator(plugin, buildWorld).generateBukkitWorld();
-            Location spawnLocation = oldWorld.getSpawnLocation();
-            spawnLocation.setWorld(newWorld);
+            moveWorldDirectory(oldWorldFile.toPath(), newWorldFile.toPath()).whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(plugin, () -> {
+                if (throwable != null) {
+                    plugin.getLogger().log(Level.SEVERE, "Unable to move world \"" + oldName + "\" to \"" + parsedNewName + "\"", throwable);
+                    registerBuildWorld(buildWorld);
+                    buildWorld.load();
+                    Messages.sendMessage(player, "worlds_rename_failed");
+                    return;
+                }
 
-            removedPlayers.stream()
-                    .filter(Objects::nonNull)
-                    .forEach(pl -> PaperLib.teleportAsync(pl, spawnLocation.add(0.5, 0, 0.5)));
-            removedPlayers.clear();
+                worldRegistry.rename(buildWorld, parsedNewName);
+                registerBuildWorld(buildWorld);
+                worldStorage.renameWorld(oldName, parsedNewName, buildWorld.serialize());
+                worldStorage.flush(true);
+
+                buildWorld.load();
+                World newWorld = buildWorld.getWorld();
+                spawnLocation.setWorld(newWorld);
+
+                removedPlayers.stream()
+                        .filter(Objects::nonNull)
+                        .filter(Player::isOnline)
+                        .forEach(pl -> PaperLib.teleportAsync(pl, spawnLocation.clone().add(0.5, 0, 0.5)));
+                removedPlayers.clear();
+
+                if (isSpawnWorld) {
+                    Location oldSpawn = spawnManager.getSpawn();
+                    Location newSpawn = new Location(newWorld, oldSpawn.getX(), oldSpawn.getY(), oldSpawn.getZ(), oldSpawn.getYaw(), oldSpawn.getPitch());
+                    spawnManager.set(newSpawn, parsedNewName);
+                }
 
-            SpawnManager spawnManager = plugin.getSpawnManager();
-            if (spawnManager.spawnExists() && Objects.equals(spawnManager.getSpawnWorld(), oldWorld)) {
-                Location oldSpawn = spawnManager.getSpawn();
-                Location newSpawn = new Location(spawnLocation.getWorld(), oldSpawn.getX(), oldSpawn.getY(), oldSpawn.getZ(), oldSpawn.getYaw(), oldSpawn.getPitch());
-                spawnManager.set(newSpawn, newSpawn.getWorld().getName());
+                Messages.sendMessage(player, "worlds_rename_set",
+                        new AbstractMap.SimpleEntry<>("%oldName%", oldName),
+                        new AbstractMap.SimpleEntry<>("%newName%", parsedNewName)
+                );
+            }));
+        }, 20L);
+    }
+
+    /**
+     * Moves the directory of a world asynchronously. If both directories are on the same filesystem, the directory
+     * is moved atomically. Otherwise, it is copied to the new location and deleted afterwards.
+     *
+     * @param source The current directory of the world
+     * @param target The new directory of the world, which must not exist
+     * @return A future which completes once the directory has been moved
+     */
+    private CompletableFuture<Void> moveWorldDirectory(Path source, Path target) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+                return true;
+            } catch (AtomicMoveNotSupportedException e) {
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, fileExecutor).thenCompose(moved -> {
+            if (moved) {
+                return CompletableFuture.completedFuture(null);
             }
 
-            Messages.sendMessage(player, "worlds_rename_set",
-                    new AbstractMap.SimpleEntry<>("%oldName%", oldName),
-                    new AbstractMap.SimpleEntry<>("%newName%", parsedNewName)
-            );
-        }, 20L);
+            return new DirectoryCopyJob(source, target, false).start(fileExecutor)
+                    .thenRunAsync(() -> FileUtils.deleteDirectory(source.toFile()), fileExecutor);
+        });
     }
 
     /**
      * Teleport a player to a {@link BuildWorld}.
+     * <p>
+     * If the world has not been loaded yet, it is loaded first. The player is only teleported once the world
+     * has been loaded and the chunk at the destination is available.
      *
      * @param player     The player to be teleported
      * @param buildWorld The build world object
+     * @return A future which completes with {@code true} if the player has been teleported, otherwise {@code false}.
+     * If loading the world fails, the error is logged and the player is notified, so the future never completes exceptionally
      */
-    public void teleport(Player player, BuildWorld buildWorld) {
-        boolean hadToLoad = false;
-        if (configValues.isUnloadWorlds() && !buildWorld.isLoaded()) {
-            buildWorld.load(player);
-            hadToLoad = true;
-        }
-
-        World bukkitWorld = Bukkit.getServer().getWorld(buildWorld.getName());
-        if (bukkitWorld == null) {
-            Messages.sendMessage(player, "worlds_tp_unknown_world");
-            return;
-        }
+    public CompletableFuture<Boolean> teleport(Player player, BuildWorld buildWorld) {
+        return loadWorld(player, buildWorld).thenCompose(bukkitWorld -> {
+            if (bukkitWorld == null) {
+                Messages.sendMessage(player, "worlds_tp_unknown_world");
+                return CompletableFuture.completedFuture(false);
+            }
 
-        Location location = bukkitWorld.getSpawnLocation().add(0.5, 0, 0.5);
-        if (buildWorld.getCustomSpawn() == null) {
-            switch (buildWorld.getType()) {
-                case NETHER:
-                case END:
-                    Location blockLocation = null;
-                    for (int y = 0; y < bukkitWorld.getMaxHeight(); y++) {
-                        Block block = bukkitWorld.getBlockAt(location.getBlockX(), y, location.getBlockZ());
-                        if (isSafeLocation(block.getLocation())) {
-                            blockLocation = block.getLocation();
-                            break;
-                        }
+            Location location = getSpawnLocation(buildWorld, bukkitWorld);
+            CompletableFuture<Location> destinationFuture;
+            if (buildWorld.getCustomSpawn() == null && (buildWorld.getType() == WorldType.NETHER || buildWorld.getType() == WorldType.END)) {
+                // Nether and end worlds do not have a safe spawn location by default
+                destinationFuture = safeLocationFinder.findLowest(location, SAFE_SPAWN_RADIUS).handle((safeLocation, throwable) -> {
+                    if (throwable != null) {
+                        plugin.getLogger().log(Level.WARNING, "Unable to find a safe spawn location in world \"" + buildWorld.getName() + "\"", throwable);
                     }
-                    if (blockLocation != null) {
-                        location = new Location(bukkitWorld, blockLocation.getBlockX() + 0.5, blockLocation.getBlockY() + 1, blockLocation.getBlockZ() + 0.5);
-                    }
-                    break;
-                default:
-                    break;
+                    return safeLocation != null ? safeLocation : location;
+                });
+            } else {
+                destinationFuture = PaperLib.getChunkAtAsync(location).thenApply(chunk -> location);
             }
-        } else {
-            String[] spawnString = buildWorld.getCustomSpawn().split(";");
-            location = new Location(bukkitWorld, Double.parseDouble(spawnString[0]), Double.parseDouble(spawnString[1]), Double.parseDouble(spawnString[2]), Float.parseFloat(spawnString[3]), Float.parseFloat(spawnString[4]));
-        }
 
-        Location finalLocation = location;
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
-            PaperLib.teleportAsync(player, finalLocation);
-            Titles.clearTitle(player);
-            XSound.ENTITY_ENDERMAN_TELEPORT.play(player);
-        }, hadToLoad ? 20L : 0L);
+            return destinationFuture.thenCompose(destination -> {
+                if (!player.isOnline()) {
+                    return CompletableFuture.completedFuture(false);
+                }
+
+                return PaperLib.teleportAsync(player, destination).thenApply(success -> {
+                    if (success) {
+                        Titles.clearTitle(player);
+                        XSound.ENTITY_ENDERMAN_TELEPORT.play(player);
+                    }
+                    return success;
+                });
+            });
+        }).exceptionally(throwable -> {
+            plugin.getLogger().log(Level.WARNING, "Unable to teleport " + player.getName() + " to world \"" + buildWorld.getName() + "\"", throwable);
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                Titles.clearTitle(player);
+                Messages.sendMessage(player, "worlds_tp_unknown_world");
+            });
+            return false;
+        });
     }
 
     /**
-     * In order to correctly teleport a player to a {@link Location}, the block underneath the player's feet must be solid.
+     * Loads a {@link BuildWorld} which a player is about to enter.
+     * <p>
+     * The world is loaded with the next tick, so that the player receives the loading title before the server
+     * is busy creating the world. Concurrent requests for the same world share a single load.
      *
-     * @param location The location the player will be teleported to
+     * @param player     The player who is waiting for the world
+     * @param buildWorld The build world object
+     * @return A future which completes with the bukkit world, or {@code null} if the world could not be loaded
      */
-    public boolean isSafeLocation(Location location) {
-        Block feet = location.getBlock();
-        if (feet.getType() != Material.AIR && feet.getLocation().add(0, 1, 0).getBlock().getType() != Material.AIR) {
-            return false;
+    public CompletableFuture<World> loadWorld(Player player, BuildWorld buildWorld) {
+        worldUnloadPipeline.cancel(buildWorld);
+
+        boolean needsLoad = (configValues.isUnloadWorlds() && !buildWorld.isLoaded()) || worldLoadScheduler.isQueued(buildWorld);
+        if (!needsLoad) {
+            return CompletableFuture.completedFuture(Bukkit.getWorld(buildWorld.getName()));
         }
 
-        Block head = feet.getRelative(BlockFace.UP);
-        if (head.getType() != Material.AIR) {
-            return false;
+        buildWorld.sendLoadingTitle(player);
+
+        CompletableFuture<World> pending = pendingLoads.get(buildWorld);
+        if (pending != null) {
+            return pending;
+        }
+
+        CompletableFuture<World> future = new CompletableFuture<>();
+        pendingLoads.put(buildWorld, future);
+        Bukkit.getScheduler().runTask(plugin, () -> {
+            pendingLoads.remove(buildWorld);
+            try {
+                if (!worldLoadScheduler.loadNow(buildWorld)) {
+                    buildWorld.load();
+                }
+                future.complete(Bukkit.getWorld(buildWorld.getName()));
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private Location getSpawnLocation(BuildWorld buildWorld, World bukkitWorld) {
+        String customSpawn = buildWorld.getCustomSpawn();
+        if (customSpawn == null) {
+            return bukkitWorld.getSpawnLocation().add(0.5, 0, 0.5);
         }
 
-        Block ground = feet.getRelative(BlockFace.DOWN);
-        return ground.getType().isSolid();
+        String[] spawnString = customSpawn.split(";");
+        return new Location(bukkitWorld, Double.parseDouble(spawnString[0]), Double.parseDouble(spawnString[1]), Double.parseDouble(spawnString[2]), Float.parseFloat(spawnString[3]), Float.parseFloat(spawnString[4]));
     }
 
     public boolean canEnter(Player player, BuildWorld buildWorld) {
@@ -632,56 +919,87 @@ public class WorldManager {
         return player.hasPermission(permission + ".other");
     }
 
+    /**
+     * Marks a {@link BuildWorld} as modified, so it is written to disk with the next save.
+     *
+     * @param buildWorld The world which has been modified
+     */
+    public void markDirty(BuildWorld buildWorld) {
+        if (worldRegistry.contains(buildWorld)) {
+            dirtyWorlds.add(buildWorld);
+        }
+    }
+
+    /**
+     * Writes all modified worlds to disk synchronously, using a single write.
+     */
     public void save() {
-        buildWorlds.forEach(worldConfig::saveWorld);
+        saveDirtyWorlds();
+        worldStorage.flush(false);
     }
 
-    public void load() {
-        FileConfiguration configuration = worldConfig.getFile();
-        if (configuration == null) {
+    /**
+     * Periodically writes all modified worlds to disk asynchronously, so that changes survive a crash.
+     */
+    private void startAutosave() {
+        long interval = 20L * configValues.getAutosaveInterval();
+        if (interval <= 0) {
             return;
         }
 
-        ConfigurationSection configurationSection = configuration.getConfigurationSection("worlds");
-        if (configurationSection == null) {
-            return;
-        }
+        Bukkit.getScheduler().runTaskTimer(plugin, () -> {
+            saveDirtyWorlds();
+            worldStorage.flush(true);
+        }, interval, interval);
+    }
+
+    private void saveDirtyWorlds() {
+        dirtyWorlds.forEach(buildWorld -> worldStorage.saveWorld(buildWorld.getName(), buildWorld.serialize()));
+        dirtyWorlds.clear();
+    }
+
+    public void load() {
+        worldTombstones.sweep();
+        importableWorldIndex.start();
+        startAutosave();
+        worldIdleTracker.start();
+        worldEvictionPolicy.start();
 
-        Set<String> worlds = configurationSection.getKeys(false);
+        Map<String, ConfigurationSection> worlds = worldStorage.loadWorlds();
         if (worlds.isEmpty()) {
             return;
         }
 
         worlds.forEach(this::loadWorld);
-        worldConfig.loadWorlds(this);
-    }
 
-    public BuildWorld loadWorld(String worldName) {
-        FileConfiguration configuration = worldConfig.getFile();
-        if (configuration == null) {
-            return null;
+        if (configValues.isUnloadWorlds()) {
+            plugin.getLogger().info("*** \"Unload worlds\" has been enabled in the config. Therefore worlds will not be pre-loaded ***");
+            return;
         }
+        worldLoadScheduler.start(getBuildWorlds());
+    }
 
-        String creator = configuration.isString("worlds." + worldName + ".creator") ? configuration.getString("worlds." + worldName + ".creator") : "-";
-        UUID creatorId = parseCreatorId(configuration, worldName, creator);
-        WorldType worldType = configuration.isString("worlds." + worldName + ".type") ? WorldType.valueOf(configuration.getString("worlds." + worldName + ".type")) : WorldType.UNKNOWN;
-        boolean privateWorld = configuration.isBoolean("worlds." + worldName + ".private") && configuration.getBoolean("worlds." + worldName + ".private");
+    private BuildWorld loadWorld(String worldName, ConfigurationSection configuration) {
+        String creator = configuration.isString("creator") ? configuration.getString("creator") : "-";
+        UUID creatorId = parseCreatorId(configuration, creator);
+        WorldType worldType = configuration.isString("type") ? WorldType.valueOf(configuration.getString("type")) : WorldType.UNKNOWN;
+        boolean privateWorld = configuration.isBoolean("private") && configuration.getBoolean("private");
         XMaterial material = parseMaterial(configuration, worldName);
-        WorldStatus worldStatus = WorldStatus.valueOf(configuration.getString("worlds." + worldName + ".status"));
-        String project = configuration.getString("worlds." + worldName + ".project");
-        String permission = configuration.getString("worlds." + worldName + ".permission");
-        long date = configuration.isLong("worlds." + worldName + ".date") ? configuration.getLong("worlds." + worldName + ".date") : -1;
-        boolean physics = configuration.getBoolean("worlds." + worldName + ".physics");
-        boolean explosions = !configuration.isBoolean("worlds." + worldName + ".explosions") || configuration.getBoolean("worlds." + worldName + ".explosions");
-        boolean mobAI = !configuration.isBoolean("worlds." + worldName + ".mobai") || configuration.getBoolean("worlds." + worldName + ".mobai");
-        String customSpawn = configuration.getString("worlds." + worldName + ".spawn");
-        boolean blockBreaking = !configuration.isBoolean("worlds." + worldName + ".block-breaking") || configuration.getBoolean("worlds." + worldName + ".block-breaking");
-        boolean blockPlacement = !configuration.isBoolean("worlds." + worldName + ".block-placement") || configuration.getBoolean("worlds." + worldName + ".block-placement");
-        boolean blockInteractions = !configuration.isBoolean("worlds." + worldName + ".block-interactions") || configuration.getBoolean("worlds." + worldName + ".block-interactions");
-        boolean buildersEnabled = configuration.isBoolean("worlds." + worldName + ".builders-enabled") && configuration.getBoolean("worlds." + worldName + ".builders-enabled");
-        Difficulty difficulty = Difficulty.valueOf(configuration.getString("worlds." + worldName + ".difficulty", "PEACEFUL").toUpperCase());
-        List<Builder> builders = parseBuilders(configuration, worldName);
-        String generatorName = configuration.getString("worlds." + worldName + ".chunk-generator");
+        WorldStatus worldStatus = WorldStatus.valueOf(configuration.getString("status"));
+        String project = configuration.getString("project");
+        String permission = configuration.getString("permission");
+        long date = configuration.isLong("date") ? configuration.getLong("date") : -1;
+        boolean physics = configuration.getBoolean("physics");
+        boolean explosions = !configuration.isBoolean("explosions") || configuration.getBoolean("explosions");
+        boolean mobAI = !configuration.isBoolean("mobai") || configuration.getBoolean("mobai");
+        String customSpawn = configuration.getString("spawn");
+        boolean blockBreaking = !configuration.isBoolean("block-breaking") || configuration.getBoolean("block-breaking");
+        boolean blockPlacement = !configuration.isBoolean("block-placement") || configuration.getBoolean("block-placement");
+        boolean blockInteractions = !configuration.isBoolean("block-interactions") || configuration.getBoolean("block-interactions");
+        boolean buildersEnabled = configuration.isBoolean("builders-enabled") && configuration.getBoolean("builders-enabled");
+        Difficulty difficulty = Difficulty.valueOf(configuration.getString("difficulty", "PEACEFUL").toUpperCase());
+        List<Builder> builders = parseBuilders(configuration);
+        String generatorName = configuration.getString("chunk-generator");
         CustomGenerator customGenerator = new CustomGenerator(generatorName, parseChunkGenerator(worldName, generatorName));
 
         BuildWorld buildWorld = new BuildWorld(
@@ -708,12 +1026,15 @@ public class WorldManager {
                 customGenerator
         );
 
-        buildWorlds.add(buildWorld);
+        registerBuildWorld(buildWorld);
+        if (creatorId != null && !configuration.isString("creator-id")) {
+            markDirty(buildWorld);
+        }
         return buildWorld;
     }
 
-    private XMaterial parseMaterial(FileConfiguration configuration, String worldName) {
-        String itemString = configuration.getString("worlds." + worldName + ".item");
+    private XMaterial parseMaterial(ConfigurationSection configuration, String worldName) {
+        String itemString = configuration.getString("item");
         if (itemString == null) {
             itemString = XMaterial.BEDROCK.name();
             plugin.getLogger().warning("Unknown material found for \"" + worldName + "\" (" + itemString + ").");
@@ -730,8 +1051,8 @@ public class WorldManager {
         }
     }
 
-    private UUID parseCreatorId(FileConfiguration configuration, String worldName, String creator) {
-        String path = "worlds." + worldName + ".creator-id";
+    private UUID parseCreatorId(ConfigurationSection configuration, String creator) {
+        String path = "creator-id";
         String id = configuration.isString(path) ? configuration.getString(path) : null;
 
         if (id == null || id.equalsIgnoreCase("null")) {
@@ -745,11 +1066,11 @@ public class WorldManager {
         }
     }
 
-    private List<Builder> parseBuilders(FileConfiguration configuration, String worldName) {
+    private List<Builder> parseBuilders(ConfigurationSection configuration) {
         List<Builder> builders = new ArrayList<>();
 
-        if (configuration.isString("worlds." + worldName + ".builders")) {
-            String buildersString = configuration.getString("worlds." + worldName + ".builders");
+        if (configuration.isString("builders")) {
+            String buildersString = configuration.getString("builders");
             if (buildersString != null && !buildersString.isEmpty()) {
                 String[] splitBuilders = buildersString.split(";");
                 for (String builder : splitBuilders) {
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Finds worlds whose name, project or creator contains a search query, ignoring case.
+ * <p>
+ * Queries which are shorter than {@value #GRAM_LENGTH} characters are matched against the beginning of the terms,
+ * using a sorted map of all terms. Longer queries are answered using an index of all trigrams: Only the worlds
+ * which contain every trigram of the query are candidates, which are then checked for the whole query.
+ * Either way, only worlds which share parts of the query have to be looked at.
+ *
+ * @author einTosti
+ */
+class WorldSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<BuildWorld, List<String>> searchTerms;
+    private final NavigableMap<String, Set<BuildWorld>> worldsByTerm;
+    private final Map<String, Set<BuildWorld>> worldsByGram;
+
+    WorldSearchIndex() {
+        this.searchTerms = new IdentityHashMap<>();
+        this.worldsByTerm = new TreeMap<>();
+        this.worldsByGram = new HashMap<>();
+    }
+
+    void add(BuildWorld buildWorld) {
+        List<String> terms = getSearchTerms(buildWorld);
+        searchTerms.put(buildWorld, terms);
+
+        for (String term : terms) {
+            worldsByTerm.computeIfAbsent(term, key -> new HashSet<>()).add(buildWorld);
+            for (String gram : getGrams(term)) {
+                worldsByGram.computeIfAbsent(gram, key -> new HashSet<>()).add(buildWorld);
+            }
+        }
+    }
+
+    void remove(BuildWorld buildWorld) {
+        List<String> terms = searchTerms.remove(buildWorld);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            removeFromIndex(worldsByTerm, term, buildWorld);
+            for (String gram : getGrams(term)) {
+                removeFromIndex(worldsByGram, gram, buildWorld);
+            }
+        }
+    }
+
+    /**
+     * Re-indexes the world after its name, project or creator has changed.
+     *
+     * @param buildWorld The world which changed
+     */
+    void update(BuildWorld buildWorld) {
+        remove(buildWorld);
+        add(buildWorld);
+    }
+
+    /**
+     * Gets all worlds whose name, project or creator matches the query.
+     *
+     * @param query The query
+     * @return The matching worlds, in no particular order
+     */
+    Set<BuildWorld> search(String query) {
+        String normalizedQuery = query.trim().toLowerCase(Locale.ROOT);
+        if (normalizedQuery.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            Set<BuildWorld> matches = new HashSet<>();
+            worldsByTerm.subMap(normalizedQuery, true, normalizedQuery + Character.MAX_VALUE, false)
+                    .values()
+                    .forEach(matches::addAll);
+            return matches;
+        }
+
+        List<Set<BuildWorld>> candidates = new ArrayList<>();
+        for (String gram : getGrams(normalizedQuery)) {
+            Set<BuildWorld> worlds = worldsByGram.get(gram);
+            if (worlds == null) {
+                return Collections.emptySet();
+            }
+            candidates.add(worlds);
+        }
+        candidates.sort(Comparator.comparingInt(Set::size));
+
+        Set<BuildWorld> matches = new HashSet<>();
+        for (BuildWorld buildWorld : candidates.get(0)) {
+            if (containsAll(candidates, buildWorld) && matches(buildWorld, normalizedQuery)) {
+                matches.add(buildWorld);
+            }
+        }
+        return matches;
+    }
+
+    private boolean containsAll(List<Set<BuildWorld>> candidates, BuildWorld buildWorld) {
+        for (int i = 1; i < candidates.size(); i++) {
+            if (!candidates.get(i).contains(buildWorld)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Since a term can contain all trigrams of a query without containing the query itself,
+     * the candidates have to be checked for the whole query.
+     */
+    private boolean matches(BuildWorld buildWorld, String query) {
+        for (String term : searchTerms.get(buildWorld)) {
+            if (term.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> getSearchTerms(BuildWorld buildWorld) {
+        List<String> terms = new ArrayList<>(3);
+        addSearchTerm(terms, buildWorld.getName());
+        addSearchTerm(terms, buildWorld.getProject());
+        addSearchTerm(terms, buildWorld.getCreator());
+        return terms;
+    }
+
+    private static void addSearchTerm(List<String> terms, String term) {
+        if (term == null || term.equals("-")) {
+            return;
+        }
+
+        String normalizedTerm = term.toLowerCase(Locale.ROOT);
+        if (!normalizedTerm.isEmpty() && !terms.contains(normalizedTerm)) {
+            terms.add(normalizedTerm);
+        }
+    }
+
+    private static Set<String> getGrams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= term.length(); i++) {
+            grams.add(term.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static <K> void removeFromIndex(Map<K, Set<BuildWorld>> index, K key, BuildWorld buildWorld) {
+        Set<BuildWorld> worlds = index.get(key);
+        if (worlds == null) {
+            return;
+        }
+
+        worlds.remove(buildWorld);
+        if (worlds.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
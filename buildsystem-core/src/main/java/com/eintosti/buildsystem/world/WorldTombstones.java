@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import com.eintosti.buildsystem.util.FileUtils;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * Deletes world directories in two steps. First, the directory is renamed to a hidden tombstone, which frees
+ * the name of the world right away. Then, the tombstone is deleted in the background.
+ * <p>
+ * Tombstones which are left over, e.g. because the server was stopped while deleting them, are deleted on startup.
+ *
+ * @author einTosti
+ */
+public class WorldTombstones {
+
+    private static final String TOMBSTONE_PREFIX = ".deleted-";
+
+    private final BuildSystem plugin;
+    private final Executor executor;
+
+    public WorldTombstones(BuildSystem plugin, Executor executor) {
+        this.plugin = plugin;
+        this.executor = executor;
+    }
+
+    /**
+     * Gets whether a directory in the world container is a tombstone of a deleted world.
+     *
+     * @param directoryName The name of the directory
+     * @return {@code true} if the directory is a tombstone, otherwise {@code false}
+     */
+    public static boolean isTombstone(String directoryName) {
+        return directoryName.startsWith(TOMBSTONE_PREFIX);
+    }
+
+    /**
+     * Turns the given world directory into a tombstone and deletes it asynchronously.
+     * If the directory cannot be renamed, it is deleted in place instead.
+     *
+     * @param directory The directory of the world, which must not be loaded
+     * @return A future which completes once the directory has been deleted
+     */
+    public CompletableFuture<Void> delete(File directory) {
+        Path source = directory.toPath();
+        Path tombstone = source.resolveSibling(TOMBSTONE_PREFIX + directory.getName() + "-" + System.currentTimeMillis());
+        try {
+            Files.move(source, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Unable to rename " + directory.getName() + " before deleting it", e);
+            tombstone = source;
+        }
+        return deleteTree(tombstone);
+    }
+
+    /**
+     * Deletes all tombstones which are left in the world container.
+     */
+    public void sweep() {
+        File[] tombstones = Bukkit.getWorldContainer().listFiles((dir, name) -> isTombstone(name));
+        if (tombstones == null) {
+            return;
+        }
+
+        for (File tombstone : tombstones) {
+            deleteTree(tombstone.toPath()).whenComplete((result, throwable) -> {
+                if (throwable != null) {
+                    plugin.getLogger().log(Level.WARNING, "Unable to delete " + tombstone.getName(), throwable);
+                }
+            });
+        }
+    }
+
+    /**
+     * The top-level entries, e.g. the region and entities folders, are deleted in parallel.
+     */
+    private CompletableFuture<Void> deleteTree(Path directory) {
+        List<CompletableFuture<Void>> deletions = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                deletions.add(CompletableFuture.runAsync(() -> deleteDirectory(entry), executor));
+            }
+        } catch (IOException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new UncheckedIOException(e));
+            return failed;
+        }
+
+        return CompletableFuture.allOf(deletions.toArray(new CompletableFuture[0]))
+                .thenRunAsync(() -> deleteDirectory(directory), executor);
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (!FileUtils.deleteDirectory(directory.toFile())) {
+            throw new UncheckedIOException(new IOException("Unable to delete " + directory));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world;
+
+import com.eintosti.buildsystem.BuildSystem;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Unloads worlds over multiple ticks by unloading their chunks within a per-tick time budget,
+ * followed by the final unload of the world itself.
+ * <p>
+ * There is at most one unload in progress per world. Requesting another unload of the same world merges the
+ * request into the one in progress, while loading the world cancels it. All methods must be called from the main thread.
+ * <p>
+ * Every request can be given a callback which is told whether the world has actually been unloaded. It is called
+ * with {@code false} if the final unload fails or if the unload is cancelled.
+ *
+ * @author einTosti
+ */
+public class WorldUnloadPipeline {
+
+    private final BuildSystem plugin;
+    private final Map<BuildWorld, UnloadOperation> operations;
+
+    private BukkitTask task;
+
+    public WorldUnloadPipeline(BuildSystem plugin) {
+        this.plugin = plugin;
+        this.operations = new LinkedHashMap<>();
+    }
+
+    /**
+     * Starts unloading the given world, unless it is already being unloaded.
+     *
+     * @param buildWorld  The world to unload
+     * @param bukkitWorld The bukkit world which belongs to the build world
+     * @param save        Whether chunks should be saved before being unloaded
+     * @param onComplete  Called with whether the world has been unloaded once the unload is over, may be {@code null}
+     */
+    public void unload(BuildWorld buildWorld, World bukkitWorld, boolean save, @Nullable Consumer<Boolean> onComplete) {
+        UnloadOperation operation = operations.get(buildWorld);
+        if (operation == null) {
+            operation = new UnloadOperation(bukkitWorld, save);
+            operations.put(buildWorld, operation);
+        } else {
+            operation.save |= save;
+        }
+
+        if (onComplete != null) {
+            operation.callbacks.add(onComplete);
+        }
+
+        if (task == null) {
+            this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Gets whether the given world is currently being unloaded.
+     *
+     * @param buildWorld The world
+     * @return {@code true} if the world is being unloaded, otherwise {@code false}
+     */
+    public boolean isUnloading(BuildWorld buildWorld) {
+        return operations.containsKey(buildWorld);
+    }
+
+    /**
+     * Stops unloading the given world. Chunks which have already been unloaded will be loaded again when needed.
+     * The callbacks of the unload are told that the world has not been unloaded.
+     *
+     * @param buildWorld The world
+     * @return {@code true} if the world was being unloaded, otherwise {@code false}
+     */
+    public boolean cancel(BuildWorld buildWorld) {
+        UnloadOperation operation = operations.remove(buildWorld);
+        if (operation == null) {
+            return false;
+        }
+
+        operation.complete(false);
+        return true;
+    }
+
+    private void tick() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(plugin.getConfigValues().getUnloadTickBudget());
+        List<Map.Entry<BuildWorld, UnloadOperation>> finished = new ArrayList<>();
+
+        Iterator<Map.Entry<BuildWorld, UnloadOperation>> iterator = operations.entrySet().iterator();
+        while (iterator.hasNext() && System.nanoTime() < deadline) {
+            Map.Entry<BuildWorld, UnloadOperation> entry = iterator.next();
+            UnloadOperation operation = entry.getValue();
+
+            Chunk chunk;
+            while (System.nanoTime() < deadline && (chunk = operation.chunks.pollFirst()) != null) {
+                if (chunk.isLoaded()) {
+                    chunk.unload(operation.save);
+                }
+            }
+
+            if (operation.chunks.isEmpty()) {
+                iterator.remove();
+                finished.add(entry);
+            }
+        }
+
+        // Finishing an operation calls events and callbacks, which might start or cancel other operations
+        for (Map.Entry<BuildWorld, UnloadOperation> entry : finished) {
+            UnloadOperation operation = entry.getValue();
+            operation.complete(entry.getKey().completeUnload(operation.bukkitWorld, operation.save));
+        }
+
+        if (operations.isEmpty() && task != null) {
+            task.cancel();
+            this.task = null;
+        }
+    }
+
+    private static class UnloadOperation {
+
+        private final World bukkitWorld;
+        private final Deque<Chunk> chunks;
+        private final List<Consumer<Boolean>> callbacks;
+        private boolean save;
+
+        private UnloadOperation(World bukkitWorld, boolean save) {
+            this.bukkitWorld = bukkitWorld;
+            this.chunks = new ArrayDeque<>(Arrays.asList(bukkitWorld.getLoadedChunks()));
+            this.callbacks = new ArrayList<>();
+            this.save = save;
+        }
+
+        private void complete(boolean unloaded) {
+            callbacks.forEach(callback -> callback.accept(unloaded));
+        }
+    }
+}
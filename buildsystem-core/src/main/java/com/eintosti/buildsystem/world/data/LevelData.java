@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world.data;
+
+import com.eintosti.buildsystem.util.NbtReader;
+import org.bukkit.World.Environment;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The metadata of a world as it is stored in the world's {@code level.dat}.
+ * <p>
+ * Reading the metadata does not require the world to be loaded and can be done on any thread.
+ * Since Bukkit stores every dimension in its own world, the dimension is inferred from the world's directory:
+ * A nether world only has a {@code DIM-1} and an end world only has a {@code DIM1} directory.
+ * <p>
+ * Worlds which use a generator of a plugin, such as the void worlds created by BuildSystem, still record the settings
+ * of a vanilla generator. Therefore the {@link WorldType} of a world is only inferred if the settings clearly
+ * differ from the defaults, otherwise the world is assumed to be a {@link WorldType#VOID} world.
+ *
+ * @author einTosti
+ */
+public class LevelData {
+
+    private static final String LEVEL_FILE = "level.dat";
+    private static final String NAMESPACE = "minecraft:";
+    private static final String DEFAULT_FLAT_LAYERS = "bedrock*1,dirt*2,grass_block*1";
+    private static final List<String> NORMAL_GENERATORS = Arrays.asList("noise", "default", "default_1_1", "large_biomes", "largebiomes", "amplified");
+
+    private final String levelName;
+    private final String generator;
+    @Nullable
+    private final String flatLayers;
+    private final boolean structures;
+    private final Environment environment;
+    private final int dataVersion;
+    private final int spawnX;
+    private final int spawnY;
+    private final int spawnZ;
+    private final long lastPlayed;
+
+    private LevelData(String levelName, String generator, @Nullable String flatLayers, boolean structures, Environment environment, int dataVersion, int spawnX, int spawnY, int spawnZ, long lastPlayed) {
+        this.levelName = levelName;
+        this.generator = generator;
+        this.flatLayers = flatLayers;
+        this.structures = structures;
+        this.environment = environment;
+        this.dataVersion = dataVersion;
+        this.spawnX = spawnX;
+        this.spawnY = spawnY;
+        this.spawnZ = spawnZ;
+        this.lastPlayed = lastPlayed;
+    }
+
+    /**
+     * Reads the metadata of the world in the given directory. Should not be called from the main thread.
+     *
+     * @param worldFolder The directory of the world
+     * @return The world's metadata, or {@code null} if the directory does not contain a valid {@code level.dat}
+     */
+    @Nullable
+    public static LevelData read(File worldFolder) {
+        File levelFile = new File(worldFolder, LEVEL_FILE);
+        if (!levelFile.isFile()) {
+            return null;
+        }
+
+        Map<String, Object> root;
+        try {
+            root = NbtReader.readCompressed(levelFile.toPath());
+        } catch (IOException | RuntimeException e) {
+            // A corrupt file can fail in many ways, all of which make the level data unavailable
+            return null;
+        }
+
+        Map<String, Object> data = getCompound(root, "Data");
+        Environment environment = readEnvironment(worldFolder);
+
+        String generator;
+        String flatLayers;
+        boolean structures;
+        Map<String, Object> worldGenSettings = getCompound(data, "WorldGenSettings");
+        if (!worldGenSettings.isEmpty()) {
+            // 1.16+ stores the generator of every dimension separately
+            Map<String, Object> dimension = getCompound(getCompound(worldGenSettings, "dimensions"), getDimensionKey(environment));
+            Map<String, Object> generatorSettings = getCompound(dimension, "generator");
+            generator = stripNamespace(getString(generatorSettings, "type", "default"));
+            flatLayers = readFlatLayers(generatorSettings.get("settings"));
+            structures = getNumber(worldGenSettings, "generate_features").intValue() != 0;
+        } else {
+            generator = getString(data, "generatorName", "default");
+            flatLayers = readFlatLayers(data.get("generatorOptions"));
+            structures = getNumber(data, "MapFeatures").intValue() != 0;
+        }
+
+        return new LevelData(
+                getString(data, "LevelName", worldFolder.getName()),
+                generator.toLowerCase(Locale.ROOT),
+                flatLayers,
+                structures,
+                environment,
+                getNumber(data, "DataVersion").intValue(),
+                getNumber(data, "SpawnX").intValue(),
+                getNumber(data, "SpawnY").intValue(),
+                getNumber(data, "SpawnZ").intValue(),
+                getNumber(data, "LastPlayed").longValue()
+        );
+    }
+
+    public String getLevelName() {
+        return levelName;
+    }
+
+    /**
+     * Gets the name of the generator the world was created with, e.g. {@code flat} or {@code noise}.
+     *
+     * @return The name of the generator
+     */
+    public String getGenerator() {
+        return generator;
+    }
+
+    public Environment getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Gets the data version of the world, which identifies the Minecraft version the world was last saved with.
+     *
+     * @return The data version, or {@code 0} if the world was last saved before 1.9
+     */
+    public int getDataVersion() {
+        return dataVersion;
+    }
+
+    public int getSpawnX() {
+        return spawnX;
+    }
+
+    public int getSpawnY() {
+        return spawnY;
+    }
+
+    public int getSpawnZ() {
+        return spawnZ;
+    }
+
+    /**
+     * Gets the time the world was last saved at.
+     *
+     * @return The time in milliseconds, or {@code 0} if it is unknown
+     */
+    public long getLastPlayed() {
+        return lastPlayed;
+    }
+
+    /**
+     * Gets the {@link WorldType} which recreates the world's generation settings most closely.
+     * <ul>
+     *   <li>{@link WorldType#NETHER} and {@link WorldType#END} are recognised by the dimension of the world.</li>
+     *   <li>{@link WorldType#FLAT} requires a flat world whose layers differ from the default ones.</li>
+     *   <li>{@link WorldType#NORMAL} requires a vanilla overworld generator which also generates structures.</li>
+     *   <li>Any other world is assumed to be a {@link WorldType#VOID} world.</li>
+     * </ul>
+     *
+     * @return The matching world type
+     */
+    public WorldType getWorldType() {
+        switch (environment) {
+            case NETHER:
+                return WorldType.NETHER;
+            case THE_END:
+                return WorldType.END;
+            default:
+                break;
+        }
+
+        if (generator.equals("flat")) {
+            boolean defaultLayers = flatLayers == null || flatLayers.isEmpty() || flatLayers.equals(DEFAULT_FLAT_LAYERS);
+            return defaultLayers ? WorldType.VOID : WorldType.FLAT;
+        }
+
+        if (NORMAL_GENERATORS.contains(generator) && structures) {
+            return WorldType.NORMAL;
+        }
+        return WorldType.VOID;
+    }
+
+    private static Environment readEnvironment(File worldFolder) {
+        if (new File(worldFolder, "region").isDirectory()) {
+            return Environment.NORMAL;
+        }
+
+        if (new File(worldFolder, "DIM-1").isDirectory()) {
+            return Environment.NETHER;
+        } else if (new File(worldFolder, "DIM1").isDirectory()) {
+            return Environment.THE_END;
+        }
+        return Environment.NORMAL;
+    }
+
+    private static String getDimensionKey(Environment environment) {
+        switch (environment) {
+            case NETHER:
+                return NAMESPACE + "the_nether";
+            case THE_END:
+                return NAMESPACE + "the_end";
+            default:
+                return NAMESPACE + "overworld";
+        }
+    }
+
+    /**
+     * Reads the layers of a flat world as a string such as {@code bedrock*1,dirt*2,grass_block*1}.
+     * Before 1.13, the layers are stored as a string such as {@code 2;7,2x3,2;1}, afterwards as a list of compounds.
+     *
+     * @param settings The generator settings
+     * @return The layers, an empty string if the world has no solid layers or {@code null} if the layers are unknown
+     */
+    @Nullable
+    private static String readFlatLayers(Object settings) {
+        List<String> layers = new ArrayList<>();
+        boolean empty = true;
+
+        if (settings instanceof String) {
+            String[] parts = ((String) settings).split(";");
+            if (parts.length < 2 || !(parts[0].equals("2") || parts[0].equals("3"))) {
+                return null;
+            }
+
+            char heightSeparator = parts[0].equals("2") ? 'x' : '*';
+            for (String layer : parts[1].split(",")) {
+                int separator = layer.indexOf(heightSeparator);
+                String block = normalizeBlock(layer.substring(separator + 1));
+                int height;
+                try {
+                    height = separator == -1 ? 1 : Integer.parseInt(layer.substring(0, separator).trim());
+                } catch (NumberFormatException e) {
+                    return null;
+                }
+
+                layers.add(block + "*" + height);
+                empty &= block.equals("air");
+            }
+        } else if (settings instanceof Map) {
+            Object layerList = ((Map<?, ?>) settings).get("layers");
+            if (!(layerList instanceof List)) {
+                return null;
+            }
+
+            for (Object layer : (List<?>) layerList) {
+                if (!(layer instanceof Map)) {
+                    return null;
+                }
+
+                Object block = ((Map<?, ?>) layer).get("block");
+                Object height = ((Map<?, ?>) layer).get("height");
+                if (!(block instanceof String)) {
+                    return null;
+                }
+
+                String normalizedBlock = normalizeBlock((String) block);
+                layers.add(normalizedBlock + "*" + (height instanceof Number ? ((Number) height).intValue() : 1));
+                empty &= normalizedBlock.equals("air");
+            }
+        } else {
+            return null;
+        }
+
+        return empty ? "" : String.join(",", layers);
+    }
+
+    /**
+     * Converts both legacy block ids and namespaced block names of the default flat layers to the modern names.
+     */
+    private static String normalizeBlock(String block) {
+        String name = stripNamespace(block.trim().toLowerCase(Locale.ROOT));
+        int data = name.indexOf(':');
+        if (data != -1) {
+            name = name.substring(0, data);
+        }
+
+        switch (name) {
+            case "0":
+            case "cave_air":
+            case "void_air":
+                return "air";
+            case "2":
+            case "grass":
+                return "grass_block";
+            case "3":
+                return "dirt";
+            case "7":
+                return "bedrock";
+            default:
+                return name;
+        }
+    }
+
+    private static String stripNamespace(String key) {
+        return key.startsWith(NAMESPACE) ? key.substring(NAMESPACE.length()) : key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getCompound(Map<String, Object> compound, String key) {
+        Object value = compound.get(key);
+        return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    private static String getString(Map<String, Object> compound, String key, String defaultValue) {
+        Object value = compound.get(key);
+        return value instanceof String ? (String) value : defaultValue;
+    }
+
+    private static Number getNumber(Map<String, Object> compound, String key) {
+        Object value = compound.get(key);
+        return value instanceof Number ? (Number) value : 0;
+    }
+}
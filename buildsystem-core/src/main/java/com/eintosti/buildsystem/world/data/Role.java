@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2022, Thomas Meaney
+ * All rights reserved.
+ *
+ * This source code is licensed under the BSD-style license found in the
+ * LICENSE file in the root directory of this source tree.
+ */
+package com.eintosti.buildsystem.world.data;
+
+import com.eintosti.buildsystem.world.BuildWorld;
+
+/**
+ * The role a player has in a {@link BuildWorld}.
+ *
+ * @author einTosti
+ * @see BuildWorld#getRole(java.util.UUID)
+ */
+public enum Role {
+    /**
+     * The creator of a {@link BuildWorld}.
+     */
+    CREATOR,
+
+    /**
+     * A player which has been added to the list of trusted players and is therefore allowed to build in a {@link BuildWorld}.
+     */
+    BUILDER,
+
+    /**
+     * A player which is neither the {@link #CREATOR} nor a {@link #BUILDER} in a {@link BuildWorld}.
+     */
+    GUEST;
+
+    @Override
+    public String toString() {
+        return this.name().toLowerCase();
+    }
+}
@@ -29,7 +29,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
 import java.util.AbstractMap;
-import java.util.List;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -81,7 +81,7 @@ public class BuilderInventory extends PaginatedInventory implements Listener {
     }
 
     private void addItems(BuildWorld buildWorld, Player player) {
-        List<Builder> builders = buildWorld.getBuilders();
+        Collection<Builder> builders = buildWorld.getBuilders();
         this.numBuilders = builders.size();
         int numInventories = (numBuilders % MAX_BUILDERS == 0 ? numBuilders : numBuilders + 1) != 0 ? (numBuilders % MAX_BUILDERS == 0 ? numBuilders : numBuilders + 1) : 1;
 